@@ -0,0 +1,62 @@
+package com.union.solutions.saascore.adapters.in.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conjuntos de authorities canônicos: a mesma combinação roles/perms devolve sempre a mesma
+ * instância imutável, e cada authority existe uma vez. Acima de {@code max-size} combinações o
+ * conjunto é montado sem cache.
+ */
+@Component
+public class AuthorityRegistry {
+
+  private final int maxSize;
+  private final Map<Key, AuthoritySet> sets = new ConcurrentHashMap<>();
+  private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+
+  public AuthorityRegistry(@Value("${app.auth.authority-cache.max-size:1024}") int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public AuthoritySet resolve(List<String> roles, List<String> perms) {
+    Key key = new Key(roles != null ? roles : List.of(), perms != null ? perms : List.of());
+    AuthoritySet set = sets.get(key);
+    if (set != null) return set;
+    set = build(key.roles(), key.perms());
+    if (sets.size() >= maxSize) return set;
+    AuthoritySet existing = sets.putIfAbsent(new Key(set.roles(), set.perms()), set);
+    return existing != null ? existing : set;
+  }
+
+  public int size() {
+    return sets.size();
+  }
+
+  private AuthoritySet build(List<String> roles, List<String> perms) {
+    List<GrantedAuthority> granted = new ArrayList<>(roles.size() + perms.size());
+    for (String r : roles) granted.add(authority("ROLE_" + r));
+    for (String p : perms) granted.add(authority(p));
+    return new AuthoritySet(List.copyOf(roles), List.copyOf(perms), List.copyOf(granted));
+  }
+
+  private GrantedAuthority authority(String name) {
+    GrantedAuthority a = authorities.get(name);
+    if (a != null) return a;
+    a = new SimpleGrantedAuthority(name.intern());
+    if (authorities.size() >= maxSize * 4) return a;
+    GrantedAuthority existing = authorities.putIfAbsent(a.getAuthority(), a);
+    return existing != null ? existing : a;
+  }
+
+  private record Key(List<String> roles, List<String> perms) {}
+
+  public record AuthoritySet(
+      List<String> roles, List<String> perms, List<GrantedAuthority> authorities) {}
+}
@@ -1,8 +1,10 @@
 package com.union.solutions.saascore.adapters.in.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import javax.crypto.SecretKey;
@@ -13,16 +15,16 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "app.auth.mode", havingValue = "hs256", matchIfMissing = true)
 public class Hs256TokenParser implements TokenParser {
 
-  private final SecretKey key;
+  private final JwtParser parser;
 
   public Hs256TokenParser(SecretKey jwtSecretKey) {
-    this.key = jwtSecretKey;
+    this.parser = Jwts.parser().verifyWith(jwtSecretKey).build();
   }
 
   @Override
   public Optional<TokenClaims> parse(String token) {
     try {
-      Claims c = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+      Claims c = parser.parseSignedClaims(token).getPayload();
       return Optional.of(toClaims(c));
     } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
       return Optional.empty();
@@ -40,7 +42,14 @@ public class Hs256TokenParser implements TokenParser {
     @SuppressWarnings("unchecked")
     List<String> perms =
         c.get("perms") != null ? (List<String>) c.get("perms") : Collections.emptyList();
+    Date exp = c.getExpiration();
     return new TokenClaims(
-        sub, tid, roles, perms, plan != null ? plan : "", region != null ? region : "");
+        sub,
+        tid,
+        roles,
+        perms,
+        plan != null ? plan : "",
+        region != null ? region : "",
+        exp != null ? exp.toInstant() : null);
   }
 }
@@ -1,20 +1,17 @@
 package com.union.solutions.saascore.adapters.in.auth;
 
+import com.union.solutions.saascore.config.RequestPrincipal;
 import com.union.solutions.saascore.config.TenantContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.slf4j.MDC;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,9 +19,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final TokenParser tokenParser;
+  private final VerifiedTokenCache tokenCache;
+  private final AuthorityRegistry authorityRegistry;
 
-  public JwtAuthenticationFilter(TokenParser tokenParser) {
+  public JwtAuthenticationFilter(
+      TokenParser tokenParser, VerifiedTokenCache tokenCache, AuthorityRegistry authorityRegistry) {
     this.tokenParser = tokenParser;
+    this.tokenCache = tokenCache;
+    this.authorityRegistry = authorityRegistry;
   }
 
   @Override
@@ -35,57 +37,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
     String auth = request.getHeader("Authorization");
     if (auth != null && auth.startsWith("Bearer ")) {
-      String token = auth.substring(7);
-      tokenParser
-          .parse(token)
-          .ifPresent(
-              claims -> {
-                String sub = claims.sub();
-                String tid = claims.tid();
-                String plan = claims.plan();
-                String region = claims.region();
-                List<String> roles = claims.roles();
-                List<String> perms = claims.perms();
-
-                List<SimpleGrantedAuthority> authorities =
-                    Stream.concat(roles.stream().map(r -> "ROLE_" + r), perms.stream())
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
-                UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(sub, null, authorities);
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-
-                TenantContext.setSubject(sub);
-                TenantContext.setPlan(plan != null ? plan : "");
-                TenantContext.setRegion(region != null ? region : "");
-                TenantContext.setRoles(roles);
-                TenantContext.setPerms(perms);
-
-                String tenantHeader = request.getHeader("X-Tenant-Id");
-                if (tid != null && !tid.isBlank()) {
-                  try {
-                    UUID tenantUuid = UUID.fromString(tid);
-                    if (tenantHeader != null && !tenantHeader.isBlank()) {
-                      UUID headerUuid = UUID.fromString(tenantHeader);
-                      if (!tenantUuid.equals(headerUuid) && !"*".equals(tid)) {
-                        response.setStatus(403);
-                        return;
-                      }
-                    }
-                    TenantContext.setTenantId(tenantUuid);
-                  } catch (IllegalArgumentException ignored) {
-                  }
-                } else if (tenantHeader != null && !tenantHeader.isBlank()) {
-                  try {
-                    TenantContext.setTenantId(UUID.fromString(tenantHeader));
-                  } catch (IllegalArgumentException ignored) {
-                  }
-                }
-
-                TenantContext.getTenantId().ifPresent(t -> MDC.put("tenantId", t.toString()));
-              });
+      Optional<TokenClaims> claims = tokenCache.parse(auth.substring(7), tokenParser);
+      if (claims.isPresent()) authenticate(claims.get(), request, response);
     }
     try {
       filterChain.doFilter(request, response);
@@ -93,4 +46,58 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       TenantContext.clear();
     }
   }
+
+  private void authenticate(
+      TokenClaims claims, HttpServletRequest request, HttpServletResponse response) {
+    AuthorityRegistry.AuthoritySet authorities =
+        authorityRegistry.resolve(claims.roles(), claims.perms());
+
+    String tid = claims.tid();
+    String tenantHeader = request.getHeader("X-Tenant-Id");
+    UUID tenantId = null;
+    boolean tenantMismatch = false;
+    if (tid != null && !tid.isBlank()) {
+      try {
+        UUID tokenTenant = UUID.fromString(tid);
+        if (isBlank(tenantHeader) || sameTenant(tid, tokenTenant, tenantHeader)) {
+          tenantId = tokenTenant;
+        } else {
+          tenantMismatch = true;
+        }
+      } catch (IllegalArgumentException ignored) {
+      }
+    } else if (!isBlank(tenantHeader)) {
+      try {
+        tenantId = UUID.fromString(tenantHeader);
+      } catch (IllegalArgumentException ignored) {
+      }
+    }
+
+    RequestPrincipal principal =
+        new RequestPrincipal(
+            claims.sub(),
+            tenantId,
+            claims.plan() != null ? claims.plan() : "",
+            claims.region() != null ? claims.region() : "",
+            authorities.roles(),
+            authorities.perms());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new PrincipalAuthentication(principal, authorities.authorities()));
+    TenantContext.setPrincipal(principal);
+
+    if (tenantMismatch) {
+      response.setStatus(403);
+      return;
+    }
+    if (tenantId != null) MDC.put("tenantId", tenantId.toString());
+  }
+
+  /** Comparação textual cobre o caso comum sem parsear o header de novo. */
+  private static boolean sameTenant(String tid, UUID tokenTenant, String tenantHeader) {
+    return tenantHeader.equalsIgnoreCase(tid) || tokenTenant.equals(UUID.fromString(tenantHeader));
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
 }
@@ -56,7 +56,13 @@ public class OidcTokenParser implements TokenParser {
     }
 
     return new TokenClaims(
-        sub, tid, roles, perms, plan != null ? plan : "", region != null ? region : "");
+        sub,
+        tid,
+        roles,
+        perms,
+        plan != null ? plan : "",
+        region != null ? region : "",
+        jwt.getExpiresAt());
   }
 
   private List<String> extractRealmRoles(Jwt jwt) {
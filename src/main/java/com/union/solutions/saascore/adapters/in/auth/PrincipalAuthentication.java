@@ -0,0 +1,57 @@
+package com.union.solutions.saascore.adapters.in.auth;
+
+import com.union.solutions.saascore.config.RequestPrincipal;
+import java.util.List;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Authentication sobre o {@link RequestPrincipal}; reutiliza a lista canônica do registry em vez de
+ * copiá-la como {@code UsernamePasswordAuthenticationToken} faz.
+ */
+public final class PrincipalAuthentication implements Authentication {
+
+  private final RequestPrincipal principal;
+  private final List<GrantedAuthority> authorities;
+
+  public PrincipalAuthentication(RequestPrincipal principal, List<GrantedAuthority> authorities) {
+    this.principal = principal;
+    this.authorities = authorities;
+  }
+
+  @Override
+  public List<GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public Object getDetails() {
+    return null;
+  }
+
+  @Override
+  public RequestPrincipal getPrincipal() {
+    return principal;
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return true;
+  }
+
+  @Override
+  public void setAuthenticated(boolean authenticated) {
+    if (authenticated) return;
+    throw new IllegalArgumentException("PrincipalAuthentication is always authenticated");
+  }
+
+  @Override
+  public String getName() {
+    return principal.subject() != null ? principal.subject() : "";
+  }
+}
@@ -1,10 +1,22 @@
 package com.union.solutions.saascore.adapters.in.auth;
 
+import java.time.Instant;
 import java.util.List;
 
-/** DTO para claims JWT extraídas por HS256 ou OIDC. */
+/** DTO para claims JWT extraídas por HS256 ou OIDC; {@code expiresAt} nulo se sem {@code exp}. */
 public record TokenClaims(
-    String sub, String tid, List<String> roles, List<String> perms, String plan, String region) {
+    String sub,
+    String tid,
+    List<String> roles,
+    List<String> perms,
+    String plan,
+    String region,
+    Instant expiresAt) {
+
+  public TokenClaims(
+      String sub, String tid, List<String> roles, List<String> perms, String plan, String region) {
+    this(sub, tid, roles, perms, plan, region, null);
+  }
 
   public static TokenClaims empty() {
     return new TokenClaims(null, null, List.of(), List.of(), "", "");
@@ -0,0 +1,96 @@
+package com.union.solutions.saascore.adapters.in.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claims já verificadas, indexadas pelo SHA-256 do token (o token em si não fica em memória). Cada
+ * entrada vale até o {@code exp} do token; tokens sem {@code exp} não são cacheados.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final Clock clock;
+  private final Map<String, TokenClaims> entries = new ConcurrentHashMap<>();
+
+  @Autowired
+  public VerifiedTokenCache(
+      @Value("${app.auth.token-cache.enabled:true}") boolean enabled,
+      @Value("${app.auth.token-cache.max-size:10000}") int maxSize) {
+    this(enabled, maxSize, Clock.systemUTC());
+  }
+
+  public VerifiedTokenCache(boolean enabled, int maxSize, Clock clock) {
+    this.enabled = enabled;
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  public Optional<TokenClaims> parse(String token, TokenParser parser) {
+    if (!enabled) return parser.parse(token);
+    String key = digest(token);
+    long now = clock.millis();
+    TokenClaims cached = entries.get(key);
+    if (cached != null) {
+      if (cached.expiresAt().toEpochMilli() > now) return Optional.of(cached);
+      entries.remove(key, cached);
+    }
+    Optional<TokenClaims> parsed = parser.parse(token);
+    parsed
+        .filter(c -> c.expiresAt() != null && c.expiresAt().toEpochMilli() > now)
+        .ifPresent(c -> put(key, c));
+    return parsed;
+  }
+
+  @Scheduled(fixedDelayString = "${app.auth.token-cache.sweep-ms:60000}")
+  public void evictExpired() {
+    long now = clock.millis();
+    entries.values().removeIf(c -> c.expiresAt().toEpochMilli() <= now);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void put(String key, TokenClaims claims) {
+    if (entries.size() >= maxSize) evictBatch();
+    entries.put(key, claims);
+  }
+
+  /**
+   * Cheio: descarta 10% de entradas arbitrárias de uma vez, para que o custo se dilua pelos
+   * próximos misses; o custo de uma entrada perdida é só uma nova verificação. Expiradas saem no
+   * sweep agendado, nunca na thread da requisição.
+   */
+  private void evictBatch() {
+    int toRemove = Math.max(1, maxSize / 10);
+    Iterator<String> it = entries.keySet().iterator();
+    while (toRemove-- > 0 && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
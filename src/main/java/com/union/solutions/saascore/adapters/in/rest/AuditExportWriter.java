@@ -0,0 +1,104 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.in.rest.AuditLogController.AuditDto;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/** Serializa linhas de auditoria uma a uma, sem acumular: NDJSON (um AuditDto por linha) ou CSV. */
+public final class AuditExportWriter {
+
+  public enum Format {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    final String contentType;
+    final String extension;
+
+    Format(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public static Format parse(String value) {
+      try {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            "Invalid format '" + value + "'; expected ndjson or csv");
+      }
+    }
+  }
+
+  private static final byte[] NEWLINE = {'\n'};
+  private static final String CSV_HEADER =
+      "id,tenant_id,actor_sub,actor_roles,actor_perms,action,resource_type,resource_id,method,"
+          + "path,status_code,correlation_id,details,created_at\n";
+
+  private final Format format;
+  private final OutputStream out;
+  private final ObjectMapper objectMapper;
+
+  public AuditExportWriter(Format format, OutputStream out, ObjectMapper objectMapper) {
+    this.format = format;
+    this.out = out;
+    this.objectMapper = objectMapper;
+  }
+
+  public void writeHeader() throws IOException {
+    if (format == Format.CSV) out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Chamado dentro do callback JDBC, daí a IOException embrulhada. */
+  public void write(AuditRow row) {
+    try {
+      if (format == Format.NDJSON) {
+        out.write(objectMapper.writeValueAsBytes(AuditDto.from(row)));
+        out.write(NEWLINE);
+      } else {
+        out.write(csvLine(row).getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String csvLine(AuditRow r) {
+    StringBuilder line = new StringBuilder(256);
+    Object[] fields = {
+      r.id(),
+      r.tenantId(),
+      r.actorSub(),
+      r.actorRoles(),
+      r.actorPerms(),
+      r.action(),
+      r.resourceType(),
+      r.resourceId(),
+      r.method(),
+      r.path(),
+      r.statusCode(),
+      r.correlationId(),
+      r.details(),
+      r.createdAt()
+    };
+    for (int i = 0; i < fields.length; i++) {
+      if (i > 0) line.append(',');
+      if (fields[i] != null) line.append(csvField(Objects.toString(fields[i])));
+    }
+    return line.append('\n').toString();
+  }
+
+  private static String csvField(String value) {
+    boolean quote =
+        value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+    return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+  }
+}
@@ -1,26 +1,50 @@
 package com.union.solutions.saascore.adapters.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.union.solutions.saascore.adapters.out.persistence.AuditLogEntity;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
 import com.union.solutions.saascore.adapters.out.persistence.AuditLogJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogQueryJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogQueryJdbcRepository.AuditFilter;
+import com.union.solutions.saascore.config.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
 import java.time.Instant;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/v1/audit")
 public class AuditLogController {
 
   private final AuditLogJpaRepository auditRepo;
+  private final AuditLogQueryJdbcRepository queryRepo;
+  private final ObjectMapper objectMapper;
+  private final Semaphore exportSlots;
 
-  public AuditLogController(AuditLogJpaRepository auditRepo) {
+  public AuditLogController(
+      AuditLogJpaRepository auditRepo,
+      AuditLogQueryJdbcRepository queryRepo,
+      ObjectMapper objectMapper,
+      @Value("${app.audit.export.max-concurrent:2}") int maxConcurrentExports) {
     this.auditRepo = auditRepo;
+    this.queryRepo = queryRepo;
+    this.objectMapper = objectMapper;
+    this.exportSlots = new Semaphore(maxConcurrentExports);
   }
 
   @GetMapping
@@ -33,42 +57,86 @@ public class AuditLogController {
       @RequestParam(required = false) Instant to,
       @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "50") int limit,
+      @RequestParam(required = false) String count,
       @PageableDefault(size = 50) Pageable pageable) {
+    AuditFilter filter = new AuditFilter(tenantId, action, actorSub, correlationId, from, to);
 
     if (cursor != null && !cursor.isBlank()) {
-      Instant cursorInstant = decodeCursor(cursor);
-      List<AuditDto> items =
-          auditRepo
-              .findNextPage(
-                  tenantId,
-                  action,
-                  actorSub,
-                  correlationId,
-                  from,
-                  to,
-                  cursorInstant,
-                  PageRequest.of(0, limit))
+      KeysetCursor before = KeysetCursor.decode(cursor);
+      List<AuditDto> rows =
+          queryRepo
+              .findBefore(filter, before.createdAt(), before.id(), KeysetCursor.fetchSize(limit))
               .stream()
               .map(AuditDto::from)
               .toList();
-      boolean hasMore = items.size() == limit;
-      String nextCursor = hasMore ? encodeCursor(items.getLast().createdAt()) : null;
-      return ResponseEntity.ok(new CursorPage<>(items, nextCursor, hasMore));
+      return ResponseEntity.ok(
+          KeysetCursor.page(rows, limit, a -> new KeysetCursor(a.createdAt(), a.id())));
     }
 
-    Page<AuditDto> page =
-        auditRepo
-            .search(tenantId, action, actorSub, correlationId, from, to, pageable)
-            .map(AuditDto::from);
-    return ResponseEntity.ok(page);
-  }
-
-  private static String encodeCursor(Instant instant) {
-    return Base64.getUrlEncoder().withoutPadding().encodeToString(instant.toString().getBytes());
+    CountMode countMode = CountMode.parse(count);
+    if (countMode == CountMode.EXACT) {
+      Page<AuditDto> page =
+          auditRepo
+              .search(tenantId, action, actorSub, correlationId, from, to, pageable)
+              .map(AuditDto::from);
+      return ResponseEntity.ok(page);
+    }
+    Slice<AuditDto> slice = queryRepo.findSlice(filter, pageable).map(AuditDto::from);
+    return ResponseEntity.ok(
+        SliceResponse.of(slice, countMode, () -> queryRepo.estimateCount(filter)));
   }
 
-  private static Instant decodeCursor(String cursor) {
-    return Instant.parse(new String(Base64.getUrlDecoder().decode(cursor)));
+  /**
+   * Exporta o intervalo inteiro em ordem cronológica, direto do cursor JDBC para a resposta; a
+   * memória não cresce com o tamanho do intervalo. Cada export segura uma conexão do pool e um
+   * snapshot enquanto o cliente lê, então o número de exports simultâneos no nó é limitado por
+   * {@code app.audit.export.max-concurrent}; acima disso, 503 com Retry-After.
+   */
+  @GetMapping("/export")
+  public ResponseEntity<?> export(
+      @RequestParam(required = false) UUID tenantId,
+      @RequestParam(required = false) String action,
+      @RequestParam(required = false) String actorSub,
+      @RequestParam(required = false) String correlationId,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to,
+      @RequestParam(required = false, defaultValue = "ndjson") String format,
+      @RequestParam(required = false, defaultValue = "false") boolean gzip,
+      HttpServletRequest request) {
+    AuditFilter filter = new AuditFilter(tenantId, action, actorSub, correlationId, from, to);
+    AuditExportWriter.Format exportFormat = AuditExportWriter.Format.parse(format);
+    if (!exportSlots.tryAcquire()) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, "30")
+          .body(
+              ProblemDetails.of(
+                  503,
+                  "Service Unavailable",
+                  "Too many audit exports in progress",
+                  request.getRequestURI(),
+                  TenantContext.getCorrelationId()));
+    }
+    StreamingResponseBody body =
+        response -> {
+          try {
+            OutputStream target = gzip ? new GZIPOutputStream(response, 8192) : response;
+            try (OutputStream out = new BufferedOutputStream(target, 64 * 1024)) {
+              AuditExportWriter writer = new AuditExportWriter(exportFormat, out, objectMapper);
+              writer.writeHeader();
+              queryRepo.forEach(filter, writer::write);
+            }
+          } finally {
+            exportSlots.release();
+          }
+        };
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.contentType))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"audit-export." + exportFormat.extension + "\"");
+    if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    return response.body(body);
   }
 
   public record AuditDto(
@@ -103,5 +171,23 @@ public class AuditLogController {
           e.getDetails(),
           e.getCreatedAt());
     }
+
+    public static AuditDto from(AuditRow r) {
+      return new AuditDto(
+          r.id(),
+          r.tenantId(),
+          r.actorSub(),
+          r.actorRoles(),
+          r.actorPerms(),
+          r.action(),
+          r.resourceType(),
+          r.resourceId(),
+          r.method(),
+          r.path(),
+          r.statusCode(),
+          r.correlationId(),
+          r.details(),
+          r.createdAt());
+    }
   }
 }
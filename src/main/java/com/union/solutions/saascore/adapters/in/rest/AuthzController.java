@@ -0,0 +1,35 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import com.union.solutions.saascore.application.abac.AbacContext;
+import com.union.solutions.saascore.application.abac.AbacEvaluator;
+import com.union.solutions.saascore.application.abac.AbacResult;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/authz")
+public class AuthzController {
+
+  private final AbacEvaluator abacEvaluator;
+
+  public AuthzController(AbacEvaluator abacEvaluator) {
+    this.abacEvaluator = abacEvaluator;
+  }
+
+  @PostMapping("/decisions")
+  public ResponseEntity<DecisionsResponse> decisions(@Valid @RequestBody DecisionsRequest request) {
+    Map<String, AbacResult> decisions =
+        abacEvaluator.evaluateAll(AbacContext.fromCurrentContext(null), request.permissions());
+    return ResponseEntity.ok(new DecisionsResponse(decisions));
+  }
+
+  public record DecisionsRequest(@NotEmpty @Size(max = 100) List<@NotBlank String> permissions) {}
+
+  public record DecisionsResponse(Map<String, AbacResult> decisions) {}
+}
@@ -1,14 +1,15 @@
 package com.union.solutions.saascore.adapters.in.rest;
 
-import com.union.solutions.saascore.adapters.out.persistence.TenantJpaRepository;
-import com.union.solutions.saascore.application.service.FeatureFlagService;
-import com.union.solutions.saascore.application.service.PolicyService;
+import com.union.solutions.saascore.adapters.out.persistence.AggregateViewJdbcRepository;
+import com.union.solutions.saascore.application.metrics.BusinessMetricsAggregator;
 import com.union.solutions.saascore.domain.Tenant;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,24 +17,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/v1/metrics/business")
 public class BusinessMetricsController {
 
-  private final TenantJpaRepository tenantRepo;
-  private final PolicyService policyService;
-  private final FeatureFlagService flagService;
+  private final BusinessMetricsAggregator aggregator;
+  private final AggregateViewJdbcRepository viewRepo;
 
   public BusinessMetricsController(
-      TenantJpaRepository tenantRepo, PolicyService policyService, FeatureFlagService flagService) {
-    this.tenantRepo = tenantRepo;
-    this.policyService = policyService;
-    this.flagService = flagService;
+      BusinessMetricsAggregator aggregator, AggregateViewJdbcRepository viewRepo) {
+    this.aggregator = aggregator;
+    this.viewRepo = viewRepo;
   }
 
   @GetMapping
   public ResponseEntity<Map<String, Object>> metrics() {
+    BusinessMetricsAggregator.Snapshot snapshot = aggregator.snapshot();
     Map<String, Object> result = new LinkedHashMap<>();
 
-    long activeCount = tenantRepo.countByStatus(Tenant.TenantStatus.ACTIVE);
-    long suspendedCount = tenantRepo.countByStatus(Tenant.TenantStatus.SUSPENDED);
-    long deletedCount = tenantRepo.countByStatus(Tenant.TenantStatus.DELETED);
+    Map<Tenant.TenantStatus, Long> byStatus = snapshot.tenantsByStatus();
+    long activeCount = byStatus.get(Tenant.TenantStatus.ACTIVE);
+    long suspendedCount = byStatus.get(Tenant.TenantStatus.SUSPENDED);
+    long deletedCount = byStatus.get(Tenant.TenantStatus.DELETED);
     result.put(
         "tenants",
         Map.of(
@@ -41,20 +42,28 @@ public class BusinessMetricsController {
             "suspended", suspendedCount,
             "deleted", deletedCount,
             "total", activeCount + suspendedCount + deletedCount));
-
-    List<Object[]> byPlanStatus = tenantRepo.countByPlanAndStatus();
-    Map<String, Map<String, Long>> tenantsByPlan = new LinkedHashMap<>();
-    for (Object[] row : byPlanStatus) {
-      String plan = (String) row[0];
-      String status = ((Tenant.TenantStatus) row[1]).name();
-      long count = (Long) row[2];
-      tenantsByPlan.computeIfAbsent(plan, k -> new LinkedHashMap<>()).put(status, count);
-    }
-    result.put("tenants_by_plan", tenantsByPlan);
-
-    result.put("active_policies", policyService.countActive());
-    result.put("active_flags", flagService.countActiveFlags());
+    result.put("tenants_by_plan", snapshot.tenantsByPlan());
+    result.put("active_policies", snapshot.activePolicies());
+    result.put("active_flags", snapshot.activeFlags());
 
     return ResponseEntity.ok(result);
   }
+
+  /** Lido da materialized view; reflete o último refresh, não o instante da chamada. */
+  @GetMapping("/tenants/{tenantId}/flags")
+  public ResponseEntity<Map<String, Object>> activeFlagsByTenant(
+      @PathVariable @NonNull UUID tenantId) {
+    return viewRepo
+        .findActiveFlagsByTenant(tenantId)
+        .map(
+            row -> {
+              Map<String, Object> result = new LinkedHashMap<>();
+              result.put("tenant_id", row.tenantId());
+              result.put("tenant_name", row.tenantName());
+              result.put("plan", row.plan());
+              result.put("active_flags", row.activeFlags());
+              return ResponseEntity.ok(result);
+            })
+        .orElse(ResponseEntity.notFound().build());
+  }
 }
@@ -0,0 +1,20 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import java.util.Locale;
+
+/** Total nas listagens por offset: nenhum (padrão, sem COUNT), estimado pelo planner ou exato. */
+public enum CountMode {
+  NONE,
+  ESTIMATE,
+  EXACT;
+
+  public static CountMode parse(String value) {
+    if (value == null || value.isBlank()) return NONE;
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid count '" + value + "'; expected none, estimate or exact");
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import com.union.solutions.saascore.application.flag.FeatureFlagEvaluator;
+import com.union.solutions.saascore.application.flag.FlagEvaluation;
+import com.union.solutions.saascore.config.TenantContext;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/tenants/{tenantId}")
+public class FeatureFlagEvaluationController {
+
+  private final FeatureFlagEvaluator flagEvaluator;
+
+  public FeatureFlagEvaluationController(FeatureFlagEvaluator flagEvaluator) {
+    this.flagEvaluator = flagEvaluator;
+  }
+
+  /** Sem {@code subject}/{@code roles} no corpo, avalia para o chamador do token. */
+  @PostMapping("/flags:evaluate")
+  public ResponseEntity<EvaluateFlagsResponse> evaluate(
+      @PathVariable UUID tenantId, @Valid @RequestBody EvaluateFlagsRequest request) {
+    UUID ctxTenant = TenantContext.getTenantId().orElse(null);
+    if (ctxTenant != null && !ctxTenant.equals(tenantId)) {
+      throw new org.springframework.security.access.AccessDeniedException("Tenant mismatch");
+    }
+    String subject = request.subject() != null ? request.subject() : TenantContext.getSubject();
+    List<String> roles = request.roles() != null ? request.roles() : TenantContext.getRoles();
+    Map<String, FlagEvaluation> flags =
+        flagEvaluator.evaluate(tenantId, subject, roles, request.flags());
+    return ResponseEntity.ok(new EvaluateFlagsResponse(tenantId, subject, flags));
+  }
+
+  public record EvaluateFlagsRequest(
+      String subject, List<String> roles, @Size(max = 200) List<String> flags) {}
+
+  public record EvaluateFlagsResponse(
+      UUID tenantId, String subject, Map<String, FlagEvaluation> flags) {}
+}
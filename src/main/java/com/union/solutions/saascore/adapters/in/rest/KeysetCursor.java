@@ -0,0 +1,51 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cursor opaco de paginação keyset sobre {@code (created_at, id)}: base64url de {@code
+ * v1|<created_at>|<id>}. Cursores legados (só o {@code Instant}) continuam aceitos, sem desempate
+ * por id.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+  private static final String V1 = "v1|";
+
+  public static KeysetCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!raw.startsWith(V1)) return new KeysetCursor(Instant.parse(raw), null);
+      String[] parts = raw.substring(V1.length()).split("\\|", -1);
+      if (parts.length != 2) throw new IllegalArgumentException("Invalid cursor");
+      return new KeysetCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  public String encode() {
+    String raw = V1 + createdAt + "|" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Busca limit + 1 linhas; a excedente só indica que há próxima página. */
+  public static int fetchSize(int limit) {
+    if (limit < 1) throw new IllegalArgumentException("limit must be at least 1");
+    return limit + 1;
+  }
+
+  public static <T> CursorPage<T> page(List<T> rows, int limit, Function<T, KeysetCursor> keyOf) {
+    boolean hasMore = rows.size() > limit;
+    List<T> items = hasMore ? rows.subList(0, limit) : rows;
+    String nextCursor = hasMore ? keyOf.apply(items.getLast()).encode() : null;
+    return new CursorPage<>(items, nextCursor, hasMore);
+  }
+}
@@ -0,0 +1,41 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import com.union.solutions.saascore.application.abac.AbacContext;
+import com.union.solutions.saascore.application.abac.AbacEvaluator;
+import com.union.solutions.saascore.application.abac.AbacResult;
+import com.union.solutions.saascore.application.service.OutboxReplayService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/outbox")
+public class OutboxController {
+
+  private final OutboxReplayService replayService;
+  private final AbacEvaluator abacEvaluator;
+
+  public OutboxController(OutboxReplayService replayService, AbacEvaluator abacEvaluator) {
+    this.replayService = replayService;
+    this.abacEvaluator = abacEvaluator;
+  }
+
+  @PostMapping("/dead-letters:replay")
+  public ResponseEntity<?> replay(@Valid @RequestBody ReplayRequest request) {
+    AbacResult abac = abacEvaluator.evaluate(AbacContext.fromCurrentContext("outbox:replay"));
+    if (!abac.allowed())
+      return ResponseEntity.status(403)
+          .body(
+              ProblemDetails.of(
+                  403, "Forbidden", abac.reason(), "/v1/outbox/dead-letters:replay", null));
+    int limit = request.limit() != null ? request.limit() : 1000;
+    int replayed = replayService.replay(request.aggregateType(), request.eventType(), limit);
+    return ResponseEntity.ok(Map.of("replayed", replayed));
+  }
+
+  public record ReplayRequest(
+      String aggregateType, String eventType, @Min(1) @Max(10000) Integer limit) {}
+}
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -47,14 +48,23 @@ public class PolicyController {
   }
 
   @GetMapping
-  public ResponseEntity<Page<PolicyDto>> list(
+  public ResponseEntity<?> list(
       @RequestParam(required = false) String permissionCode,
       @RequestParam(required = false) Policy.Effect effect,
       @RequestParam(required = false) Boolean enabled,
+      @RequestParam(required = false) String count,
       @PageableDefault(size = 20) Pageable pageable) {
-    Page<PolicyDto> page =
-        policyService.search(permissionCode, effect, enabled, pageable).map(PolicyDto::from);
-    return ResponseEntity.ok(page);
+    CountMode countMode = CountMode.parse(count);
+    if (countMode == CountMode.EXACT) {
+      Page<PolicyDto> page =
+          policyService.search(permissionCode, effect, enabled, pageable).map(PolicyDto::from);
+      return ResponseEntity.ok(page);
+    }
+    Slice<PolicyDto> slice =
+        policyService.searchSlice(permissionCode, effect, enabled, pageable).map(PolicyDto::from);
+    return ResponseEntity.ok(
+        SliceResponse.of(
+            slice, countMode, () -> policyService.estimateCount(permissionCode, effect, enabled)));
   }
 
   @GetMapping("/{id}")
@@ -1,17 +1,16 @@
 package com.union.solutions.saascore.adapters.in.rest;
 
 import com.union.solutions.saascore.config.TenantContext;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import com.union.solutions.saascore.infrastructure.ratelimit.RateLimitDecision;
+import com.union.solutions.saascore.infrastructure.ratelimit.RateLimiterBackend;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestCost;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestCostResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import org.springframework.beans.factory.annotation.Value;
+import java.util.UUID;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
@@ -21,15 +20,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-  private final RateLimiterRegistry registry;
-  private final Map<String, Integer> planLimits;
+  private final RateLimiterBackend backend;
+  private final RequestCostResolver costResolver;
 
-  public RateLimitFilter(
-      @Value("${app.rate-limit.free:60}") int freeLimit,
-      @Value("${app.rate-limit.pro:300}") int proLimit,
-      @Value("${app.rate-limit.enterprise:1000}") int enterpriseLimit) {
-    this.registry = RateLimiterRegistry.ofDefaults();
-    this.planLimits = Map.of("free", freeLimit, "pro", proLimit, "enterprise", enterpriseLimit);
+  public RateLimitFilter(RateLimiterBackend backend, RequestCostResolver costResolver) {
+    this.backend = backend;
+    this.costResolver = costResolver;
   }
 
   @Override
@@ -50,35 +46,31 @@ public class RateLimitFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
     String plan = TenantContext.getPlan();
-    String tenantKey = TenantContext.getTenantId().map(Object::toString).orElse("anonymous");
 
     if (plan == null || plan.isBlank()) {
       filterChain.doFilter(request, response);
       return;
     }
 
-    int limit = planLimits.getOrDefault(plan, planLimits.getOrDefault("free", 60));
-    String key = tenantKey + ":" + plan;
+    UUID tenantId = TenantContext.getTenantId().orElse(null);
+    RequestCost cost = costResolver.resolve(request);
+    RateLimitDecision decision =
+        backend.tryAcquire(tenantId, plan, cost.requestClass(), cost.permits());
 
-    RateLimiter rateLimiter =
-        registry.rateLimiter(
-            key,
-            RateLimiterConfig.custom()
-                .limitForPeriod(limit)
-                .limitRefreshPeriod(Duration.ofMinutes(1))
-                .timeoutDuration(Duration.ZERO)
-                .build());
-
-    if (rateLimiter.acquirePermission()) {
-      long remaining = Math.max(0, rateLimiter.getMetrics().getAvailablePermissions());
-      response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
-      response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
+    // RateLimit-Policy/RateLimit seguem o draft IETF httpapi-ratelimit-headers; t em segundos.
+    String policy = "\"" + cost.requestClass().policyName() + "\"";
+    long retryAfterSeconds =
+        decision.allowed() ? 0 : Math.max(1, (decision.retryAfterMs() + 999) / 1000);
+    response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+    response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+    response.setHeader("RateLimit-Policy", policy + ";q=" + decision.limit() + ";w=60");
+    response.setHeader(
+        "RateLimit", policy + ";r=" + decision.remaining() + ";t=" + retryAfterSeconds);
+    if (decision.allowed()) {
       filterChain.doFilter(request, response);
     } else {
       response.setStatus(429);
-      response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
-      response.setHeader("X-RateLimit-Remaining", "0");
-      response.setHeader("Retry-After", "60");
+      response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
       response.setContentType("application/json");
       response
           .getWriter()
@@ -0,0 +1,32 @@
+package com.union.solutions.saascore.adapters.in.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Slice;
+
+/** Página sem COUNT; {@code totalElements} só aparece com {@code count=estimate}. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SliceResponse<T>(
+    List<T> content,
+    int number,
+    int size,
+    int numberOfElements,
+    boolean first,
+    boolean last,
+    Long totalElements,
+    String count) {
+
+  public static <T> SliceResponse<T> of(Slice<T> slice, CountMode mode, LongSupplier estimate) {
+    return new SliceResponse<>(
+        slice.getContent(),
+        slice.getNumber(),
+        slice.getSize(),
+        slice.getNumberOfElements(),
+        slice.isFirst(),
+        slice.isLast(),
+        mode == CountMode.ESTIMATE ? estimate.getAsLong() : null,
+        mode.name().toLowerCase(Locale.ROOT));
+  }
+}
@@ -7,12 +7,11 @@ import com.union.solutions.saascore.application.tenant.TenantUseCase;
 import com.union.solutions.saascore.domain.Tenant;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
-import java.time.Instant;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -48,23 +47,40 @@ public class TenantController {
       @RequestParam(required = false) String name,
       @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "20") int limit,
+      @RequestParam(required = false) String count,
       @PageableDefault(size = 20) Pageable pageable) {
     Tenant.TenantStatus statusEnum = status != null ? Tenant.TenantStatus.valueOf(status) : null;
 
     if (cursor != null && !cursor.isBlank()) {
-      Instant cursorInstant = decodeCursor(cursor);
-      List<TenantDto> items =
-          tenantUseCase.searchCursor(statusEnum, plan, region, name, cursorInstant, limit).stream()
+      KeysetCursor after = KeysetCursor.decode(cursor);
+      List<TenantDto> rows =
+          tenantUseCase
+              .searchCursor(
+                  statusEnum,
+                  plan,
+                  region,
+                  name,
+                  after.createdAt(),
+                  after.id(),
+                  KeysetCursor.fetchSize(limit))
+              .stream()
               .map(TenantDto::from)
               .toList();
-      boolean hasMore = items.size() == limit;
-      String nextCursor = hasMore ? encodeCursor(items.getLast().createdAt()) : null;
-      return ResponseEntity.ok(new CursorPage<>(items, nextCursor, hasMore));
+      return ResponseEntity.ok(
+          KeysetCursor.page(rows, limit, t -> new KeysetCursor(t.createdAt(), t.id())));
     }
 
-    Page<TenantDto> page =
-        tenantUseCase.search(statusEnum, plan, region, name, pageable).map(TenantDto::from);
-    return ResponseEntity.ok(page);
+    CountMode countMode = CountMode.parse(count);
+    if (countMode == CountMode.EXACT) {
+      Page<TenantDto> page =
+          tenantUseCase.search(statusEnum, plan, region, name, pageable).map(TenantDto::from);
+      return ResponseEntity.ok(page);
+    }
+    Slice<TenantDto> slice =
+        tenantUseCase.searchSlice(statusEnum, plan, region, name, pageable).map(TenantDto::from);
+    return ResponseEntity.ok(
+        SliceResponse.of(
+            slice, countMode, () -> tenantUseCase.estimateCount(statusEnum, plan, region, name)));
   }
 
   @GetMapping("/{id}")
@@ -99,14 +115,6 @@ public class TenantController {
         : ResponseEntity.notFound().build();
   }
 
-  private static String encodeCursor(Instant instant) {
-    return Base64.getUrlEncoder().withoutPadding().encodeToString(instant.toString().getBytes());
-  }
-
-  private static Instant decodeCursor(String cursor) {
-    return Instant.parse(new String(Base64.getUrlDecoder().decode(cursor)));
-  }
-
   public record CreateTenantRequest(
       @NotBlank String name, @NotBlank String plan, @NotBlank String region) {}
 
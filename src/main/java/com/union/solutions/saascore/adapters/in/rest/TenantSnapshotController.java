@@ -4,9 +4,23 @@ import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
 import com.union.solutions.saascore.application.service.FeatureFlagService;
 import com.union.solutions.saascore.application.service.PolicyService;
 import com.union.solutions.saascore.application.tenant.TenantUseCase;
+import com.union.solutions.saascore.domain.Tenant;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.*;
@@ -15,30 +29,77 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/v1/tenants/{id}")
 public class TenantSnapshotController {
 
+  private static final Set<String> INCLUDES = Set.of("policies", "flags");
+
   private final TenantUseCase tenantUseCase;
   private final PolicyService policyService;
   private final FeatureFlagService flagService;
+  private final Executor executor;
 
   public TenantSnapshotController(
-      TenantUseCase tenantUseCase, PolicyService policyService, FeatureFlagService flagService) {
+      TenantUseCase tenantUseCase,
+      PolicyService policyService,
+      FeatureFlagService flagService,
+      @Qualifier("applicationTaskExecutor") Executor executor) {
     this.tenantUseCase = tenantUseCase;
     this.policyService = policyService;
     this.flagService = flagService;
+    this.executor = executor;
   }
 
+  /**
+   * Carrega o tenant uma vez e, com {@code include}, busca policies e flags em paralelo (o task
+   * decorator propaga o contexto da requisição). O ETag deriva do maior updated_at; o Spring
+   * responde 304 quando bate com {@code If-None-Match}.
+   */
   @GetMapping("/snapshot")
-  public ResponseEntity<Map<String, Object>> snapshot(@PathVariable @NonNull UUID id) {
-    return tenantUseCase
-        .getById(id)
-        .map(
-            t ->
-                ResponseEntity.ok(
-                    Map.<String, Object>of(
-                        "id", t.getId(),
-                        "plan", t.getPlan(),
-                        "region", t.getRegion(),
-                        "status", t.getStatus().name())))
-        .orElse(ResponseEntity.notFound().build());
+  public ResponseEntity<Map<String, Object>> snapshot(
+      @PathVariable @NonNull UUID id, @RequestParam(required = false) Set<String> include) {
+    Set<String> parts = include != null ? new TreeSet<>(include) : new TreeSet<>();
+    for (String part : parts) {
+      if (!INCLUDES.contains(part)) {
+        throw new IllegalArgumentException("Unsupported include: " + part);
+      }
+    }
+    Optional<Tenant> found = tenantUseCase.getById(id);
+    if (found.isEmpty()) return ResponseEntity.notFound().build();
+    Tenant t = found.get();
+
+    CompletableFuture<List<PolicyEntity>> policies =
+        parts.contains("policies")
+            ? CompletableFuture.supplyAsync(
+                () -> policyService.getApplicablePolicies(t.getPlan(), t.getRegion()), executor)
+            : CompletableFuture.completedFuture(null);
+    CompletableFuture<List<FeatureFlagController.FlagDto>> flags =
+        parts.contains("flags")
+            ? CompletableFuture.supplyAsync(() -> flagDtos(id), executor)
+            : CompletableFuture.completedFuture(null);
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("id", t.getId());
+    body.put("plan", t.getPlan());
+    body.put("region", t.getRegion());
+    body.put("status", t.getStatus().name());
+    Instant lastModified = t.getUpdatedAt();
+    StringBuilder version = new StringBuilder().append(t.getId()).append(parts);
+
+    List<PolicyEntity> policyList = join(policies);
+    if (policyList != null) {
+      body.put("policies", policyList.stream().map(this::toPolicyDto).toList());
+      for (PolicyEntity p : policyList) lastModified = max(lastModified, p.getUpdatedAt());
+      version.append(":p").append(policyList.size());
+    }
+    List<FeatureFlagController.FlagDto> flagList = join(flags);
+    if (flagList != null) {
+      body.put("flags", flagList);
+      for (FeatureFlagController.FlagDto f : flagList) {
+        lastModified = max(lastModified, f.updatedAt());
+      }
+      version.append(":f").append(flagList.size());
+    }
+    version.append(':').append(lastModified);
+
+    return ResponseEntity.ok().eTag(etag(version.toString())).body(body);
   }
 
   @GetMapping("/policies")
@@ -46,21 +107,11 @@ public class TenantSnapshotController {
     return tenantUseCase
         .getById(id)
         .map(
-            t -> {
-              List<PolicyEntity> policies =
-                  policyService.getApplicablePolicies(t.getPlan(), t.getRegion());
-              return ResponseEntity.ok(
-                  policies.stream()
-                      .map(
-                          p ->
-                              Map.of(
-                                  "id", p.getId(),
-                                  "permission_code", p.getPermissionCode(),
-                                  "effect", p.getEffect().name(),
-                                  "allowed_plans", p.getAllowedPlans(),
-                                  "allowed_regions", p.getAllowedRegions()))
-                      .toList());
-            })
+            t ->
+                ResponseEntity.ok(
+                    policyService.getApplicablePolicies(t.getPlan(), t.getRegion()).stream()
+                        .map(this::toPolicyDto)
+                        .toList()))
         .orElse(ResponseEntity.notFound().build());
   }
 
@@ -68,12 +119,46 @@ public class TenantSnapshotController {
   public ResponseEntity<List<FeatureFlagController.FlagDto>> flags(@PathVariable @NonNull UUID id) {
     return tenantUseCase
         .getById(id)
-        .map(
-            t ->
-                ResponseEntity.ok(
-                    flagService.listByTenant(id).stream()
-                        .map(FeatureFlagController.FlagDto::from)
-                        .toList()))
+        .map(t -> ResponseEntity.ok(flagDtos(id)))
         .orElse(ResponseEntity.notFound().build());
   }
+
+  private List<FeatureFlagController.FlagDto> flagDtos(UUID tenantId) {
+    return flagService.listByTenant(tenantId).stream()
+        .map(FeatureFlagController.FlagDto::from)
+        .toList();
+  }
+
+  private Map<String, Object> toPolicyDto(PolicyEntity p) {
+    return Map.of(
+        "id", p.getId(),
+        "permission_code", p.getPermissionCode(),
+        "effect", p.getEffect().name(),
+        "allowed_plans", p.getAllowedPlans(),
+        "allowed_regions", p.getAllowedRegions());
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) throw re;
+      throw e;
+    }
+  }
+
+  private static Instant max(Instant a, Instant b) {
+    if (a == null) return b;
+    return b != null && b.isAfter(a) ? b : a;
+  }
+
+  private static String etag(String version) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(version.getBytes(StandardCharsets.UTF_8));
+      return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
 }
@@ -0,0 +1,51 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AggregateViewJdbcRepository {
+
+  public static final List<String> VIEWS = List.of("v_tenants_by_plan", "v_active_flags_by_tenant");
+
+  private final JdbcTemplate jdbc;
+
+  public AggregateViewJdbcRepository(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** Lock por transação; só uma réplica atualiza as views por vez. */
+  public boolean tryRefreshLock() {
+    return Boolean.TRUE.equals(
+        jdbc.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('aggregate_views_refresh'))",
+            Boolean.class));
+  }
+
+  /** CONCURRENTLY depende do índice único e não bloqueia leituras durante o refresh. */
+  public void refresh(String view) {
+    if (!VIEWS.contains(view)) throw new IllegalArgumentException("Unknown view: " + view);
+    jdbc.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+  }
+
+  public Optional<TenantFlagCount> findActiveFlagsByTenant(UUID tenantId) {
+    return jdbc
+        .query(
+            "SELECT tenant_id, tenant_name, plan, active_flags FROM v_active_flags_by_tenant"
+                + " WHERE tenant_id = ?",
+            (rs, i) ->
+                new TenantFlagCount(
+                    rs.getObject("tenant_id", UUID.class),
+                    rs.getString("tenant_name"),
+                    rs.getString("plan"),
+                    rs.getLong("active_flags")),
+            tenantId)
+        .stream()
+        .findFirst();
+  }
+
+  public record TenantFlagCount(UUID tenantId, String tenantName, String plan, long activeFlags) {}
+}
@@ -0,0 +1,69 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AuditLogJdbcWriter {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO audit_log (id, tenant_id, actor_sub, actor_roles, actor_perms, action,"
+          + " resource_type, resource_id, method, path, status_code, correlation_id, details,"
+          + " created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbc;
+
+  public AuditLogJdbcWriter(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public void insert(AuditRow row) {
+    jdbc.update(INSERT_SQL, ps -> bind(ps, row));
+  }
+
+  public void insertBatch(List<AuditRow> rows) {
+    if (rows.isEmpty()) return;
+    jdbc.batchUpdate(INSERT_SQL, rows, rows.size(), AuditLogJdbcWriter::bind);
+  }
+
+  private static void bind(PreparedStatement ps, AuditRow row) throws SQLException {
+    ps.setObject(1, row.id());
+    ps.setObject(2, row.tenantId());
+    ps.setString(3, row.actorSub());
+    ps.setString(4, row.actorRoles());
+    ps.setString(5, row.actorPerms());
+    ps.setString(6, row.action());
+    ps.setString(7, row.resourceType());
+    ps.setString(8, row.resourceId());
+    ps.setString(9, row.method());
+    ps.setString(10, row.path());
+    if (row.statusCode() != null) ps.setInt(11, row.statusCode());
+    else ps.setNull(11, Types.INTEGER);
+    ps.setString(12, row.correlationId());
+    ps.setString(13, row.details());
+    ps.setTimestamp(14, Timestamp.from(row.createdAt()));
+  }
+
+  public record AuditRow(
+      UUID id,
+      UUID tenantId,
+      String actorSub,
+      String actorRoles,
+      String actorPerms,
+      String action,
+      String resourceType,
+      String resourceId,
+      String method,
+      String path,
+      Integer statusCode,
+      String correlationId,
+      String details,
+      Instant createdAt) {}
+}
@@ -0,0 +1,134 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class AuditLogQueryJdbcRepository {
+
+  private static final String SELECT =
+      "SELECT id, tenant_id, actor_sub, actor_roles, actor_perms, action, resource_type,"
+          + " resource_id, method, path, status_code, correlation_id, details, created_at"
+          + " FROM audit_log";
+  private static final Map<String, String> SORTABLE =
+      Map.of("createdAt", "created_at", "action", "action", "actorSub", "actor_sub");
+
+  private final JdbcTemplate jdbc;
+  private final RowCountEstimator estimator;
+  private final int exportFetchSize;
+
+  public AuditLogQueryJdbcRepository(
+      JdbcTemplate jdbc,
+      RowCountEstimator estimator,
+      @Value("${app.audit.export.fetch-size:1000}") int exportFetchSize) {
+    this.jdbc = jdbc;
+    this.estimator = estimator;
+    this.exportFetchSize = exportFetchSize;
+  }
+
+  /**
+   * Eventos em ordem decrescente de (created_at, id) antes do cursor; sem id (cursor legado)
+   * compara só created_at. Servido por idx_audit_log_created_id / idx_audit_log_tenant_created_id.
+   */
+  public List<AuditRow> findBefore(AuditFilter criteria, Instant createdAt, UUID id, int limit) {
+    SqlFilter filter =
+        id != null
+            ? new SqlFilter().and("(created_at, id) < (?, ?)", Timestamp.from(createdAt), id)
+            : new SqlFilter().and("created_at < ?", Timestamp.from(createdAt));
+    criteria.applyTo(filter);
+    return jdbc.query(
+        SELECT + filter.sql() + " ORDER BY created_at DESC, id DESC LIMIT ?",
+        AuditLogQueryJdbcRepository::map,
+        filter.args(limit));
+  }
+
+  /** Página por offset sem COUNT: busca size + 1 linhas só para saber se há próxima. */
+  public Slice<AuditRow> findSlice(AuditFilter criteria, Pageable pageable) {
+    SqlFilter filter = criteria.applyTo(new SqlFilter());
+    String order = SqlFilter.orderBy(pageable.getSort(), SORTABLE, "created_at DESC, id DESC");
+    List<AuditRow> rows =
+        jdbc.query(
+            SELECT + filter.sql() + order + " LIMIT ? OFFSET ?",
+            AuditLogQueryJdbcRepository::map,
+            filter.args(pageable.getPageSize() + 1, pageable.getOffset()));
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  /**
+   * Percorre os eventos em ordem cronológica por cursor do servidor: o driver só usa fetch size
+   * dentro de transação (autocommit desligado), então a memória fica em um lote por vez.
+   */
+  @Transactional(readOnly = true)
+  public void forEach(AuditFilter criteria, Consumer<AuditRow> sink) {
+    SqlFilter filter = criteria.applyTo(new SqlFilter());
+    jdbc.query(
+        con -> {
+          PreparedStatement ps =
+              con.prepareStatement(SELECT + filter.sql() + " ORDER BY created_at, id");
+          ps.setFetchSize(exportFetchSize);
+          new ArgumentPreparedStatementSetter(filter.args()).setValues(ps);
+          return ps;
+        },
+        (RowCallbackHandler) rs -> sink.accept(map(rs, 0)));
+  }
+
+  public long estimateCount(AuditFilter criteria) {
+    return estimator.estimate("audit_log", criteria.applyTo(new SqlFilter()));
+  }
+
+  private static AuditRow map(ResultSet rs, int i) throws SQLException {
+    return new AuditRow(
+        rs.getObject("id", UUID.class),
+        rs.getObject("tenant_id", UUID.class),
+        rs.getString("actor_sub"),
+        rs.getString("actor_roles"),
+        rs.getString("actor_perms"),
+        rs.getString("action"),
+        rs.getString("resource_type"),
+        rs.getString("resource_id"),
+        rs.getString("method"),
+        rs.getString("path"),
+        (Integer) rs.getObject("status_code"),
+        rs.getString("correlation_id"),
+        rs.getString("details"),
+        rs.getTimestamp("created_at").toInstant());
+  }
+
+  public record AuditFilter(
+      UUID tenantId,
+      String action,
+      String actorSub,
+      String correlationId,
+      Instant from,
+      Instant to) {
+
+    SqlFilter applyTo(SqlFilter filter) {
+      return filter
+          .and("tenant_id = ?", tenantId)
+          .and("action = ?", action)
+          .and("actor_sub = ?", actorSub)
+          .and("correlation_id = ?", correlationId)
+          .and("created_at >= ?", from != null ? Timestamp.from(from) : null)
+          .and("created_at <= ?", to != null ? Timestamp.from(to) : null);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Acesso ao outbox fora de transação JPA: cada claim é um UPDATE autocommit que arrenda as linhas
+ * (next_attempt_at = fim do lease), de modo que a publicação no broker acontece sem lock aberto.
+ * Toda escrita filtra também por created_at, a chave de partição, para tocar só a partição da
+ * linha.
+ */
+@Repository
+public class OutboxEventJdbcRepository {
+
+  private static final String CLAIM_SQL =
+      "UPDATE outbox_events o SET next_attempt_at = ?, updated_at = ?"
+          + " FROM (SELECT id, created_at FROM outbox_events"
+          + " WHERE status = 'PENDING' AND created_at >= ?"
+          + " AND (next_attempt_at IS NULL OR next_attempt_at <= ?)"
+          + " ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED) c"
+          + " WHERE o.id = c.id AND o.created_at = c.created_at"
+          + " RETURNING o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload,"
+          + " o.created_at, o.attempts";
+
+  private final JdbcTemplate jdbc;
+
+  public OutboxEventJdbcRepository(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * {@code createdAfter} limita o claim às partições recentes; linhas mais antigas ficam para a
+   * varredura de retardatários.
+   */
+  public List<OutboxRecord> claimBatch(
+      Instant now, Instant leaseUntil, Instant createdAfter, int limit) {
+    return jdbc.query(
+        CLAIM_SQL,
+        OutboxEventJdbcRepository::mapRecord,
+        Timestamp.from(leaseUntil),
+        Timestamp.from(now),
+        Timestamp.from(createdAfter),
+        Timestamp.from(now),
+        limit);
+  }
+
+  /**
+   * Casa cada id com o próprio created_at via {@code unnest}. Os instantes vão como text ISO-8601
+   * em UTC: um {@code Timestamp[]} seria serializado no fuso da JVM sem offset, ambíguo na virada
+   * do horário de verão.
+   */
+  public void markPublished(Collection<OutboxRecord> records, Instant now) {
+    if (records.isEmpty()) return;
+    Object[] ids = records.stream().map(OutboxRecord::id).toArray();
+    Object[] createdAt = records.stream().map(r -> r.createdAt().toString()).toArray();
+    jdbc.update(
+        con -> {
+          PreparedStatement ps =
+              con.prepareStatement(
+                  "UPDATE outbox_events o SET status = 'PUBLISHED', updated_at = ?"
+                      + " FROM unnest(?::uuid[], ?::timestamptz[]) AS k(id, created_at)"
+                      + " WHERE o.id = k.id AND o.created_at = k.created_at");
+          ps.setTimestamp(1, Timestamp.from(now));
+          ps.setArray(2, con.createArrayOf("uuid", ids));
+          ps.setArray(3, con.createArrayOf("text", createdAt));
+          return ps;
+        });
+  }
+
+  public void markRetry(
+      UUID id, Instant createdAt, int attempts, Instant nextAttemptAt, Instant now) {
+    jdbc.update(
+        "UPDATE outbox_events SET status = 'PENDING', attempts = ?, next_attempt_at = ?,"
+            + " updated_at = ? WHERE id = ? AND created_at = ?",
+        attempts,
+        Timestamp.from(nextAttemptAt),
+        Timestamp.from(now),
+        id,
+        Timestamp.from(createdAt));
+  }
+
+  /** Tira a linha do outbox quente e a grava em outbox_dead_letter, na mesma instrução. */
+  public void moveToDeadLetter(
+      UUID id, Instant createdAt, int attempts, String lastError, Instant now) {
+    jdbc.update(
+        "WITH moved AS (DELETE FROM outbox_events WHERE id = ? AND created_at = ?"
+            + " RETURNING id, aggregate_type, aggregate_id, event_type, payload, created_at)"
+            + " INSERT INTO outbox_dead_letter (id, aggregate_type, aggregate_id, event_type,"
+            + " payload, attempts, last_error, created_at, failed_at)"
+            + " SELECT id, aggregate_type, aggregate_id, event_type, payload, ?, ?, created_at, ?"
+            + " FROM moved",
+        id,
+        Timestamp.from(createdAt),
+        attempts,
+        lastError,
+        Timestamp.from(now));
+  }
+
+  /**
+   * Devolve ao outbox (PENDING, attempts = 0) até {@code limit} eventos do dead letter, mais
+   * antigos primeiro. Filtros nulos não restringem.
+   */
+  public int replayDeadLetters(String aggregateType, String eventType, int limit, Instant now) {
+    return jdbc.update(
+        "WITH moved AS (DELETE FROM outbox_dead_letter WHERE id IN ("
+            + " SELECT id FROM outbox_dead_letter"
+            + " WHERE (CAST(? AS varchar) IS NULL OR aggregate_type = ?)"
+            + " AND (CAST(? AS varchar) IS NULL OR event_type = ?)"
+            + " ORDER BY failed_at LIMIT ? FOR UPDATE SKIP LOCKED)"
+            + " RETURNING id, aggregate_type, aggregate_id, event_type, payload)"
+            + " INSERT INTO outbox_events (id, aggregate_type, aggregate_id, event_type, payload,"
+            + " status, attempts, next_attempt_at, created_at, updated_at)"
+            + " SELECT id, aggregate_type, aggregate_id, event_type, payload, 'PENDING', 0, ?, ?, ?"
+            + " FROM moved",
+        aggregateType,
+        aggregateType,
+        eventType,
+        eventType,
+        limit,
+        Timestamp.from(now),
+        Timestamp.from(now),
+        Timestamp.from(now));
+  }
+
+  private static OutboxRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
+    return new OutboxRecord(
+        rs.getObject("id", UUID.class),
+        rs.getString("aggregate_type"),
+        rs.getString("aggregate_id"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getInt("attempts"));
+  }
+
+  public record OutboxRecord(
+      UUID id,
+      String aggregateType,
+      String aggregateId,
+      String eventType,
+      String payload,
+      Instant createdAt,
+      int attempts) {}
+}
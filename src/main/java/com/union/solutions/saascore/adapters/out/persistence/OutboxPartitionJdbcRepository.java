@@ -0,0 +1,122 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OutboxPartitionJdbcRepository {
+
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private final JdbcTemplate jdbc;
+
+  public OutboxPartitionJdbcRepository(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** Lock por transação; só uma réplica faz manutenção de partições por vez. */
+  public boolean tryMaintenanceLock() {
+    return Boolean.TRUE.equals(
+        jdbc.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('outbox_events_partitions'))",
+            Boolean.class));
+  }
+
+  public static String dailyPartitionName(LocalDate day) {
+    return "outbox_events_p" + day.format(SUFFIX);
+  }
+
+  public boolean partitionExists(String name) {
+    return Boolean.TRUE.equals(
+        jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+  }
+
+  /**
+   * Cria a partição do dia como tabela solta, move para ela as linhas do dia que caíram na default
+   * e só então a anexa: um {@code PARTITION OF} direto falharia com linhas do intervalo na default.
+   * Devolve quantas linhas foram movidas. Deve rodar dentro de transação.
+   */
+  public int createDailyPartition(LocalDate day) {
+    String name = dailyPartitionName(day);
+    Timestamp from = Timestamp.from(day.atStartOfDay(ZoneOffset.UTC).toInstant());
+    Timestamp to = Timestamp.from(day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+    jdbc.execute(
+        "CREATE TABLE " + name + " (LIKE outbox_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+    int moved =
+        jdbc.update(
+            "WITH moved AS (DELETE FROM outbox_events_default"
+                + " WHERE created_at >= ? AND created_at < ? RETURNING *)"
+                + " INSERT INTO "
+                + name
+                + " SELECT * FROM moved",
+            from,
+            to);
+    jdbc.execute(
+        "ALTER TABLE outbox_events ATTACH PARTITION "
+            + name
+            + " FOR VALUES FROM ('"
+            + from.toInstant()
+            + "') TO ('"
+            + to.toInstant()
+            + "')");
+    return moved;
+  }
+
+  /** Dias (UTC) com linhas na partição default, isto é, sem partição diária própria. */
+  public List<LocalDate> findDefaultPartitionDays() {
+    return jdbc.queryForList(
+        "SELECT DISTINCT (created_at AT TIME ZONE 'UTC')::date FROM outbox_events_default",
+        LocalDate.class);
+  }
+
+  public long countDefaultPartitionRows() {
+    Long count = jdbc.queryForObject("SELECT count(*) FROM outbox_events_default", Long.class);
+    return count != null ? count : 0;
+  }
+
+  /** Limita a espera pelo ACCESS EXCLUSIVE: enfileirado, ele bloquearia os INSERTs no outbox. */
+  public void setLockTimeout(Duration timeout) {
+    jdbc.execute("SET LOCAL lock_timeout = '" + timeout.toMillis() + "ms'");
+  }
+
+  /** Partições com limite superior conhecido (a default fica de fora). */
+  public List<Partition> findBoundedPartitions() {
+    return jdbc.query(
+        "SELECT c.relname AS name,"
+            + " (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1]"
+            + "::timestamptz AS upper_bound"
+            + " FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+            + " WHERE i.inhparent = 'outbox_events'::regclass"
+            + " AND pg_get_expr(c.relpartbound, c.oid) <> 'DEFAULT'",
+        (rs, i) -> new Partition(rs.getString("name"), rs.getTimestamp("upper_bound").toInstant()));
+  }
+
+  public boolean hasUnpublishedRows(String partition) {
+    return Boolean.TRUE.equals(
+        jdbc.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE status <> 'PUBLISHED')",
+            Boolean.class));
+  }
+
+  public void detach(String partition) {
+    jdbc.execute("ALTER TABLE outbox_events DETACH PARTITION " + partition);
+  }
+
+  public void drop(String partition) {
+    jdbc.execute("DROP TABLE " + partition);
+  }
+
+  public record Partition(String name, Instant upperBound) {
+
+    public boolean endsBefore(Instant cutoff) {
+      return !upperBound.isAfter(cutoff);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class PolicyChangeJdbcRepository {
+
+  private final JdbcTemplate jdbc;
+
+  public PolicyChangeJdbcRepository(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public List<PolicyChange> findChangedSince(Instant since) {
+    return jdbc.query(
+        "SELECT id, permission_code, updated_at FROM policies WHERE updated_at > ?"
+            + " ORDER BY updated_at",
+        (rs, i) ->
+            new PolicyChange(
+                rs.getObject("id", UUID.class),
+                rs.getString("permission_code"),
+                rs.getTimestamp("updated_at").toInstant()),
+        Timestamp.from(since));
+  }
+
+  public record PolicyChange(UUID id, String permissionCode, Instant updatedAt) {}
+}
@@ -0,0 +1,77 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import com.union.solutions.saascore.domain.Policy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class PolicyQueryJdbcRepository {
+
+  private static final String SELECT =
+      "SELECT id, permission_code, effect, allowed_plans, allowed_regions, enabled, notes,"
+          + " created_at, updated_at FROM policies";
+  private static final Map<String, String> SORTABLE =
+      Map.of(
+          "permissionCode", "permission_code",
+          "effect", "effect",
+          "enabled", "enabled",
+          "createdAt", "created_at",
+          "updatedAt", "updated_at");
+
+  private final JdbcTemplate jdbc;
+  private final RowCountEstimator estimator;
+
+  public PolicyQueryJdbcRepository(JdbcTemplate jdbc, RowCountEstimator estimator) {
+    this.jdbc = jdbc;
+    this.estimator = estimator;
+  }
+
+  /** Página por offset sem COUNT: busca size + 1 linhas só para saber se há próxima. */
+  public Slice<PolicyEntity> findSlice(
+      String permissionCode, Policy.Effect effect, Boolean enabled, Pageable pageable) {
+    SqlFilter filter = filter(permissionCode, effect, enabled);
+    String order = SqlFilter.orderBy(pageable.getSort(), SORTABLE, "created_at DESC, id DESC");
+    List<PolicyEntity> rows =
+        jdbc.query(
+            SELECT + filter.sql() + order + " LIMIT ? OFFSET ?",
+            PolicyQueryJdbcRepository::map,
+            filter.args(pageable.getPageSize() + 1, pageable.getOffset()));
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  public long estimateCount(String permissionCode, Policy.Effect effect, Boolean enabled) {
+    return estimator.estimate("policies", filter(permissionCode, effect, enabled));
+  }
+
+  private static SqlFilter filter(String permissionCode, Policy.Effect effect, Boolean enabled) {
+    return new SqlFilter()
+        .and("deleted = false")
+        .and("permission_code = ?", permissionCode)
+        .and("effect = ?", effect != null ? effect.name() : null)
+        .and("enabled = ?", enabled);
+  }
+
+  private static PolicyEntity map(ResultSet rs, int i) throws SQLException {
+    PolicyEntity entity = new PolicyEntity();
+    entity.setId(rs.getObject("id", UUID.class));
+    entity.setPermissionCode(rs.getString("permission_code"));
+    entity.setEffect(Policy.Effect.valueOf(rs.getString("effect")));
+    entity.setAllowedPlans(rs.getString("allowed_plans"));
+    entity.setAllowedRegions(rs.getString("allowed_regions"));
+    entity.setEnabled(rs.getBoolean("enabled"));
+    entity.setNotes(rs.getString("notes"));
+    entity.setCreatedAt(rs.getTimestamp("created_at").toInstant());
+    entity.setUpdatedAt(rs.getTimestamp("updated_at").toInstant());
+    return entity;
+  }
+}
@@ -0,0 +1,41 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Totais aproximados sem COUNT(*): {@code pg_class.reltuples} quando não há filtro e, com filtro, a
+ * estimativa de linhas do planner (EXPLAIN).
+ */
+@Repository
+public class RowCountEstimator {
+
+  private final JdbcTemplate jdbc;
+  private final ObjectMapper objectMapper;
+
+  public RowCountEstimator(JdbcTemplate jdbc, ObjectMapper objectMapper) {
+    this.jdbc = jdbc;
+    this.objectMapper = objectMapper;
+  }
+
+  public long estimate(String table, SqlFilter filter) {
+    if (filter.isEmpty()) {
+      Long reltuples =
+          jdbc.queryForObject(
+              "SELECT reltuples::bigint FROM pg_class WHERE oid = ?::regclass", Long.class, table);
+      // -1 enquanto a tabela nunca foi analisada; aí vale o planner.
+      if (reltuples != null && reltuples >= 0) return reltuples;
+    }
+    String plan =
+        jdbc.queryForObject(
+            "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + filter.sql(),
+            String.class,
+            filter.args());
+    try {
+      return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+    } catch (Exception e) {
+      throw new IllegalStateException("Unreadable planner estimate for " + table, e);
+    }
+  }
+}
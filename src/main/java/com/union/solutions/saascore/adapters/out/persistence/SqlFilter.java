@@ -0,0 +1,54 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.data.domain.Sort;
+
+/** WHERE montado a partir de filtros opcionais: condições com valor nulo são omitidas. */
+public final class SqlFilter {
+
+  private final StringBuilder sql = new StringBuilder();
+  private final List<Object> args = new ArrayList<>();
+
+  public SqlFilter and(String condition, Object... values) {
+    for (Object v : values) {
+      if (v == null) return this;
+    }
+    sql.append(sql.isEmpty() ? " WHERE " : " AND ").append(condition);
+    args.addAll(List.of(values));
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return sql.isEmpty();
+  }
+
+  public String sql() {
+    return sql.toString();
+  }
+
+  public Object[] args(Object... trailing) {
+    List<Object> all = new ArrayList<>(args);
+    all.addAll(List.of(trailing));
+    return all.toArray();
+  }
+
+  /**
+   * ORDER BY a partir do {@link Sort} da requisição, aceitando só as propriedades mapeadas; id
+   * sempre desempata, para que páginas por offset sejam estáveis.
+   */
+  public static String orderBy(Sort sort, Map<String, String> columns, String defaultOrder) {
+    if (sort.isUnsorted()) return " ORDER BY " + defaultOrder;
+    StringJoiner order = new StringJoiner(", ", " ORDER BY ", ", id");
+    for (Sort.Order o : sort) {
+      String column = columns.get(o.getProperty());
+      if (column == null) {
+        throw new IllegalArgumentException("Unsupported sort property: " + o.getProperty());
+      }
+      order.add(column + (o.isAscending() ? " ASC" : " DESC"));
+    }
+    return order.toString();
+  }
+}
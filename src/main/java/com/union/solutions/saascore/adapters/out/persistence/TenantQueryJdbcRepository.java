@@ -0,0 +1,118 @@
+package com.union.solutions.saascore.adapters.out.persistence;
+
+import com.union.solutions.saascore.domain.Tenant;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TenantQueryJdbcRepository {
+
+  private static final String SELECT =
+      "SELECT id, name, plan, region, status, created_at, updated_at FROM tenants";
+  private static final Map<String, String> SORTABLE =
+      Map.of(
+          "name", "name",
+          "plan", "plan",
+          "region", "region",
+          "status", "status",
+          "createdAt", "created_at",
+          "updatedAt", "updated_at");
+
+  private final JdbcTemplate jdbc;
+  private final RowCountEstimator estimator;
+
+  public TenantQueryJdbcRepository(JdbcTemplate jdbc, RowCountEstimator estimator) {
+    this.jdbc = jdbc;
+    this.estimator = estimator;
+  }
+
+  /**
+   * Tenants em ordem crescente de (created_at, id) após o cursor; sem id (cursor legado) compara só
+   * created_at. Servido por idx_tenants_created_id.
+   */
+  public List<Tenant> findAfter(
+      Tenant.TenantStatus status,
+      String plan,
+      String region,
+      String name,
+      Instant createdAt,
+      UUID id,
+      int limit) {
+    SqlFilter filter =
+        id != null
+            ? new SqlFilter().and("(created_at, id) > (?, ?)", Timestamp.from(createdAt), id)
+            : new SqlFilter().and("created_at > ?", Timestamp.from(createdAt));
+    filter(filter, status, plan, region, name);
+    return jdbc.query(
+        SELECT + filter.sql() + " ORDER BY created_at, id LIMIT ?",
+        TenantQueryJdbcRepository::map,
+        filter.args(limit));
+  }
+
+  /** Página por offset sem COUNT: busca size + 1 linhas só para saber se há próxima. */
+  public Slice<Tenant> findSlice(
+      Tenant.TenantStatus status, String plan, String region, String name, Pageable pageable) {
+    SqlFilter filter = filter(new SqlFilter(), status, plan, region, name);
+    String order = SqlFilter.orderBy(pageable.getSort(), SORTABLE, "created_at DESC, id DESC");
+    List<Tenant> rows =
+        jdbc.query(
+            SELECT + filter.sql() + order + " LIMIT ? OFFSET ?",
+            TenantQueryJdbcRepository::map,
+            filter.args(pageable.getPageSize() + 1, pageable.getOffset()));
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  public long estimateCount(Tenant.TenantStatus status, String plan, String region, String name) {
+    return estimator.estimate("tenants", filter(new SqlFilter(), status, plan, region, name));
+  }
+
+  /** Início da transação corrente no relógio do banco. */
+  public Instant transactionTimestamp() {
+    return jdbc.queryForObject("SELECT now()", Timestamp.class).toInstant();
+  }
+
+  /** Contagem ao vivo na tabela base; a materialized view pode estar um ciclo de refresh atrás. */
+  public List<PlanStatusCount> countByPlanAndStatus() {
+    return jdbc.query(
+        "SELECT plan, status, count(*) AS total FROM tenants GROUP BY plan, status",
+        (rs, i) ->
+            new PlanStatusCount(
+                rs.getString("plan"),
+                Tenant.TenantStatus.valueOf(rs.getString("status")),
+                rs.getLong("total")));
+  }
+
+  private static SqlFilter filter(
+      SqlFilter filter, Tenant.TenantStatus status, String plan, String region, String name) {
+    return filter
+        .and("status = ?", status != null ? status.name() : null)
+        .and("plan = ?", plan)
+        .and("region = ?", region)
+        .and("name ILIKE '%' || ? || '%'", name);
+  }
+
+  private static Tenant map(ResultSet rs, int i) throws SQLException {
+    return new Tenant(
+        rs.getObject("id", UUID.class),
+        rs.getString("name"),
+        rs.getString("plan"),
+        rs.getString("region"),
+        Tenant.TenantStatus.valueOf(rs.getString("status")),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getTimestamp("updated_at").toInstant());
+  }
+
+  public record PlanStatusCount(String plan, Tenant.TenantStatus status, long total) {}
+}
@@ -11,13 +11,19 @@ public record AbacContext(
     String region,
     String correlationId) {
 
+  /** Uma única leitura do contexto da thread, em vez de um getter por campo. */
   public static AbacContext fromCurrentContext(String permission) {
+    TenantContext.Snapshot current = TenantContext.capture();
     return new AbacContext(
-        TenantContext.getTenantId().orElse(null),
-        TenantContext.getSubject(),
+        current.tenantId(),
+        current.subject(),
         permission,
-        TenantContext.getPlan(),
-        TenantContext.getRegion(),
-        TenantContext.getCorrelationId());
+        current.plan() != null ? current.plan() : "",
+        current.region() != null ? current.region() : "",
+        current.correlationId());
+  }
+
+  public AbacContext withPermission(String permission) {
+    return new AbacContext(tenantId, subject, permission, plan, region, correlationId);
   }
 }
@@ -1,90 +1,79 @@
 package com.union.solutions.saascore.application.abac;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
-import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
 import com.union.solutions.saascore.config.TenantContext;
-import com.union.solutions.saascore.domain.Policy;
 import io.micrometer.core.instrument.Counter;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AbacEvaluator {
 
   private static final Logger log = LoggerFactory.getLogger(AbacEvaluator.class);
-  private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
 
-  private final PolicyJpaRepository policyRepo;
+  private final PolicyIndexProvider policyIndex;
   private final AuditLogger auditLogger;
   private final ObjectMapper objectMapper;
   private final Counter accessDeniedCounter;
 
   public AbacEvaluator(
-      PolicyJpaRepository policyRepo,
+      PolicyIndexProvider policyIndex,
       AuditLogger auditLogger,
       ObjectMapper objectMapper,
       @Qualifier("accessDeniedCounter") Counter accessDeniedCounter) {
-    this.policyRepo = policyRepo;
+    this.policyIndex = policyIndex;
     this.auditLogger = auditLogger;
     this.objectMapper = objectMapper;
     this.accessDeniedCounter = accessDeniedCounter;
   }
 
-  @Transactional(readOnly = true)
   public AbacResult evaluate(AbacContext ctx) {
-    List<PolicyEntity> policies = policyRepo.findByPermissionCodeAndEnabledTrue(ctx.permission());
-    if (policies.isEmpty()) {
-      logDeny(ctx, null);
-      return AbacResult.deny(null, "no_matching_allow_policy");
-    }
-    for (PolicyEntity pe : policies) {
-      if (pe.getEffect() == Policy.Effect.DENY && matchesContext(pe, ctx)) {
-        logDeny(ctx, pe);
-        return AbacResult.deny(pe.getId(), "denied_by_policy");
-      }
-    }
-    boolean hasAllow = false;
-    for (PolicyEntity pe : policies) {
-      if (pe.getEffect() == Policy.Effect.ALLOW && matchesContext(pe, ctx)) {
-        hasAllow = true;
-        break;
-      }
-    }
-    if (!hasAllow) {
-      logDeny(ctx, null);
-      return AbacResult.deny(null, "no_matching_allow_policy");
+    AbacResult result = decide(ctx);
+    if (!result.allowed()) logDeny(ctx, result.policyId());
+    return result;
+  }
+
+  /**
+   * Decide várias permissões contra o mesmo snapshot do índice. É uma consulta (ex.: quais botões
+   * exibir), então negativas não geram ACCESS_DENIED na auditoria.
+   */
+  public Map<String, AbacResult> evaluateAll(AbacContext base, Collection<String> permissions) {
+    PolicyIndex index = policyIndex.current();
+    Map<String, AbacResult> decisions = new LinkedHashMap<>();
+    for (String permission : permissions) {
+      decisions.computeIfAbsent(permission, p -> decide(index, base.withPermission(p)));
     }
-    return AbacResult.allow();
+    return decisions;
   }
 
-  private boolean matchesContext(PolicyEntity pe, AbacContext ctx) {
-    List<String> plans = parseJson(pe.getAllowedPlans());
-    List<String> regions = parseJson(pe.getAllowedRegions());
-    boolean planMatch = plans.isEmpty() || plans.contains(ctx.plan());
-    boolean regionMatch = regions.isEmpty() || regions.contains(ctx.region());
-    return planMatch && regionMatch;
+  private AbacResult decide(AbacContext ctx) {
+    return decide(policyIndex.current(), ctx);
   }
 
-  private List<String> parseJson(String json) {
-    if (json == null || json.isBlank() || "[]".equals(json)) return List.of();
-    try {
-      return objectMapper.readValue(json, LIST_TYPE);
-    } catch (Exception e) {
-      log.warn("Failed to parse policy JSON: {}", e.getMessage());
-      return List.of();
+  private static AbacResult decide(PolicyIndex index, AbacContext ctx) {
+    PolicyIndex.Entry entry = index.lookup(ctx.permission());
+    if (entry == null) {
+      return AbacResult.deny(null, "no_matching_allow_policy");
+    }
+    PolicyIndex.CompiledPolicy deny = entry.firstMatchingDeny(ctx.plan(), ctx.region());
+    if (deny != null) {
+      return AbacResult.deny(deny.id(), "denied_by_policy");
     }
+    if (!entry.anyMatchingAllow(ctx.plan(), ctx.region())) {
+      return AbacResult.deny(null, "no_matching_allow_policy");
+    }
+    return AbacResult.allow();
   }
 
-  private void logDeny(AbacContext ctx, PolicyEntity policy) {
+  private void logDeny(AbacContext ctx, UUID deniedBy) {
     accessDeniedCounter.increment();
-    String policyId = policy != null ? policy.getId().toString() : "none";
+    String policyId = deniedBy != null ? deniedBy.toString() : "none";
     log.warn(
         "ACCESS_DENIED tenant={} sub={} perm={} plan={} region={} policy={} corr={}",
         ctx.tenantId(),
@@ -103,7 +92,7 @@ public class AbacEvaluator {
                   "plan", ctx.plan() != null ? ctx.plan() : "",
                   "region", ctx.region() != null ? ctx.region() : "",
                   "policy_id", policyId,
-                  "reason", policy != null ? "denied_by_policy" : "no_matching_allow_policy"));
+                  "reason", deniedBy != null ? "denied_by_policy" : "no_matching_allow_policy"));
       auditLogger.log(
           tenantId,
           ctx.subject(),
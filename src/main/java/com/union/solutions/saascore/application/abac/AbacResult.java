@@ -4,8 +4,10 @@ import java.util.UUID;
 
 public record AbacResult(boolean allowed, UUID policyId, String reason) {
 
+  private static final AbacResult ALLOW = new AbacResult(true, null, "no_deny_policy");
+
   public static AbacResult allow() {
-    return new AbacResult(true, null, "no_deny_policy");
+    return ALLOW;
   }
 
   public static AbacResult deny(UUID policyId, String reason) {
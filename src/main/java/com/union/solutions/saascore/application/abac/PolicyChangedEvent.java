@@ -0,0 +1,5 @@
+package com.union.solutions.saascore.application.abac;
+
+import java.util.UUID;
+
+public record PolicyChangedEvent(UUID policyId, String permissionCode) {}
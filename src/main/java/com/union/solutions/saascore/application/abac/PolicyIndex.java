@@ -0,0 +1,197 @@
+package com.union.solutions.saascore.application.abac;
+
+import com.union.solutions.saascore.domain.Policy;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Índice imutável de políticas habilitadas, compilado por permission code, com índice invertido
+ * plano→políticas e região→políticas (bitsets sobre {@code all}).
+ */
+public final class PolicyIndex {
+
+  private static final CompiledPolicy[] NONE = new CompiledPolicy[0];
+
+  private final Map<String, Entry> byPermission;
+  private final int size;
+  private final CompiledPolicy[] all;
+  private final Map<String, BitSet> byPlan = new HashMap<>();
+  private final Map<String, BitSet> byRegion = new HashMap<>();
+  private final BitSet anyPlan = new BitSet();
+  private final BitSet anyRegion = new BitSet();
+
+  private PolicyIndex(Map<String, Entry> byPermission, int size) {
+    this.byPermission = byPermission;
+    this.size = size;
+    List<CompiledPolicy> flat = new ArrayList<>(size);
+    for (Entry e : byPermission.values()) {
+      flat.addAll(List.of(e.denies));
+      flat.addAll(List.of(e.allows));
+    }
+    this.all = flat.toArray(NONE);
+    for (int i = 0; i < all.length; i++) {
+      invert(all[i].plans(), byPlan, anyPlan, i);
+      invert(all[i].regions(), byRegion, anyRegion, i);
+    }
+  }
+
+  private static void invert(Set<String> values, Map<String, BitSet> index, BitSet any, int i) {
+    if (values.isEmpty()) {
+      any.set(i);
+      return;
+    }
+    for (String v : values) index.computeIfAbsent(v, k -> new BitSet()).set(i);
+  }
+
+  public static PolicyIndex compile(Collection<CompiledPolicy> policies) {
+    Map<String, List<CompiledPolicy>> grouped = new HashMap<>();
+    for (CompiledPolicy p : policies) {
+      grouped.computeIfAbsent(p.permissionCode(), k -> new ArrayList<>()).add(p);
+    }
+    Map<String, Entry> entries = new HashMap<>(grouped.size() * 2);
+    grouped.forEach((code, list) -> entries.put(code, Entry.of(list)));
+    return new PolicyIndex(Map.copyOf(entries), policies.size());
+  }
+
+  public PolicyIndex withRefreshed(
+      Map<String, List<CompiledPolicy>> freshByPermission, Set<UUID> touchedPolicyIds) {
+    Map<String, Entry> entries = new HashMap<>(byPermission);
+    int newSize = size;
+    for (Map.Entry<String, Entry> e : byPermission.entrySet()) {
+      boolean refreshed = freshByPermission.containsKey(e.getKey());
+      if (refreshed || !e.getValue().containsAny(touchedPolicyIds)) continue;
+      List<CompiledPolicy> kept = e.getValue().without(touchedPolicyIds);
+      newSize -= e.getValue().size() - kept.size();
+      if (kept.isEmpty()) entries.remove(e.getKey());
+      else entries.put(e.getKey(), Entry.of(kept));
+    }
+    for (Map.Entry<String, List<CompiledPolicy>> e : freshByPermission.entrySet()) {
+      Entry previous = byPermission.get(e.getKey());
+      newSize -= previous != null ? previous.size() : 0;
+      newSize += e.getValue().size();
+      if (e.getValue().isEmpty()) entries.remove(e.getKey());
+      else entries.put(e.getKey(), Entry.of(e.getValue()));
+    }
+    return new PolicyIndex(Map.copyOf(entries), newSize);
+  }
+
+  public Entry lookup(String permissionCode) {
+    return permissionCode != null ? byPermission.get(permissionCode) : null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Políticas cujo plano e região casam: (plano ∪ sem restrição) ∩ (região ∪ sem restrição). */
+  public List<CompiledPolicy> applicable(String plan, String region) {
+    BitSet matches = union(anyPlan, plan != null ? byPlan.get(plan) : null);
+    matches.and(union(anyRegion, region != null ? byRegion.get(region) : null));
+    List<CompiledPolicy> result = new ArrayList<>(matches.cardinality());
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      result.add(all[i]);
+    }
+    return result;
+  }
+
+  private static BitSet union(BitSet unrestricted, BitSet specific) {
+    BitSet result = (BitSet) unrestricted.clone();
+    if (specific != null) result.or(specific);
+    return result;
+  }
+
+  public record CompiledPolicy(
+      UUID id,
+      String permissionCode,
+      Policy.Effect effect,
+      Set<String> plans,
+      Set<String> regions) {
+
+    public CompiledPolicy {
+      permissionCode = permissionCode.intern();
+      plans = internAll(plans);
+      regions = internAll(regions);
+    }
+
+    public boolean matches(String plan, String region) {
+      boolean planMatch = plans.isEmpty() || (plan != null && plans.contains(plan));
+      boolean regionMatch = regions.isEmpty() || (region != null && regions.contains(region));
+      return planMatch && regionMatch;
+    }
+
+    private static Set<String> internAll(Collection<String> values) {
+      if (values == null || values.isEmpty()) return Set.of();
+      List<String> interned = new ArrayList<>(values.size());
+      for (String v : values) {
+        if (v != null) interned.add(v.intern());
+      }
+      return Set.copyOf(interned);
+    }
+  }
+
+  public static final class Entry {
+
+    private final CompiledPolicy[] denies;
+    private final CompiledPolicy[] allows;
+
+    private Entry(CompiledPolicy[] denies, CompiledPolicy[] allows) {
+      this.denies = denies;
+      this.allows = allows;
+    }
+
+    static Entry of(List<CompiledPolicy> policies) {
+      List<CompiledPolicy> denies = new ArrayList<>();
+      List<CompiledPolicy> allows = new ArrayList<>();
+      for (CompiledPolicy p : policies) {
+        (p.effect() == Policy.Effect.DENY ? denies : allows).add(p);
+      }
+      return new Entry(denies.toArray(NONE), allows.toArray(NONE));
+    }
+
+    int size() {
+      return denies.length + allows.length;
+    }
+
+    boolean containsAny(Set<UUID> policyIds) {
+      if (policyIds.isEmpty()) return false;
+      for (CompiledPolicy p : denies) {
+        if (policyIds.contains(p.id())) return true;
+      }
+      for (CompiledPolicy p : allows) {
+        if (policyIds.contains(p.id())) return true;
+      }
+      return false;
+    }
+
+    List<CompiledPolicy> without(Set<UUID> policyIds) {
+      List<CompiledPolicy> kept = new ArrayList<>(size());
+      for (CompiledPolicy p : denies) {
+        if (!policyIds.contains(p.id())) kept.add(p);
+      }
+      for (CompiledPolicy p : allows) {
+        if (!policyIds.contains(p.id())) kept.add(p);
+      }
+      return kept;
+    }
+
+    public CompiledPolicy firstMatchingDeny(String plan, String region) {
+      for (CompiledPolicy p : denies) {
+        if (p.matches(plan, region)) return p;
+      }
+      return null;
+    }
+
+    public boolean anyMatchingAllow(String plan, String region) {
+      for (CompiledPolicy p : allows) {
+        if (p.matches(plan, region)) return true;
+      }
+      return false;
+    }
+  }
+}
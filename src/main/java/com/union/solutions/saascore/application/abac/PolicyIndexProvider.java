@@ -0,0 +1,168 @@
+package com.union.solutions.saascore.application.abac;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyChangeJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class PolicyIndexProvider {
+
+  private static final Logger log = LoggerFactory.getLogger(PolicyIndexProvider.class);
+  private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+  private final PolicyJpaRepository policyRepo;
+  private final PolicyChangeJdbcRepository changeRepo;
+  private final ObjectMapper objectMapper;
+  private final Duration clockSkew;
+  private final AtomicReference<PolicyIndex> current = new AtomicReference<>();
+  private volatile Instant watermark;
+  // (id -> updated_at) já aplicados dentro da janela de skew; evita recompilar a cada reconcile.
+  private final Map<UUID, Instant> applied = new HashMap<>();
+
+  public PolicyIndexProvider(
+      PolicyJpaRepository policyRepo,
+      PolicyChangeJdbcRepository changeRepo,
+      ObjectMapper objectMapper,
+      @Value("${app.abac.change-feed-skew-ms:30000}") long clockSkewMs) {
+    this.policyRepo = policyRepo;
+    this.changeRepo = changeRepo;
+    this.objectMapper = objectMapper;
+    this.clockSkew = Duration.ofMillis(clockSkewMs);
+  }
+
+  public PolicyIndex current() {
+    PolicyIndex index = current.get();
+    return index != null ? index : loadIfAbsent();
+  }
+
+  public synchronized PolicyIndex rebuild() {
+    List<PolicyEntity> enabled = policyRepo.findByEnabledTrue();
+    Instant latest = null;
+    for (PolicyEntity p : enabled) {
+      Instant updatedAt = p.getUpdatedAt();
+      if (updatedAt != null && (latest == null || updatedAt.isAfter(latest))) latest = updatedAt;
+    }
+    PolicyIndex index =
+        PolicyIndex.compile(
+            enabled.stream().filter(p -> !p.isDeleted()).map(this::compile).toList());
+    current.set(index);
+    watermark = latest != null ? latest : Instant.EPOCH;
+    applied.clear();
+    Instant windowStart = watermark.minus(clockSkew);
+    for (PolicyEntity p : enabled) {
+      if (p.getUpdatedAt() != null && p.getUpdatedAt().isAfter(windowStart)) {
+        applied.put(p.getId(), p.getUpdatedAt());
+      }
+    }
+    log.debug("Policy index rebuilt policies={} watermark={}", index.size(), watermark);
+    return index;
+  }
+
+  /**
+   * Recarrega apenas o permission code afetado; a política também sai de qualquer outro código em
+   * que estivesse indexada (ex.: update que trocou o permission code).
+   */
+  public synchronized void refreshPermission(UUID policyId, String permissionCode) {
+    PolicyIndex index = current.get();
+    if (index == null || permissionCode == null) return;
+    Set<UUID> touched = policyId != null ? Set.of(policyId) : Set.of();
+    current.set(index.withRefreshed(Map.of(permissionCode, load(permissionCode)), touched));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPolicyChanged(PolicyChangedEvent event) {
+    try {
+      refreshPermission(event.policyId(), event.permissionCode());
+    } catch (Exception e) {
+      log.warn("Policy index refresh failed, keeping previous index: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Detecta eventos perdidos: qualquer política com updated_at acima do watermark aplicado (menos a
+   * margem de clock skew) tem seu permission code recarregado. Pares (id, updated_at) já aplicados
+   * são ignorados, então cada mudança é recompilada uma vez só.
+   */
+  @Scheduled(
+      fixedDelayString = "${app.abac.version-check-ms:10000}",
+      initialDelayString = "${app.abac.version-check-ms:10000}")
+  public void reconcile() {
+    if (current.get() == null) return;
+    try {
+      applyChangesSince(watermark.minus(clockSkew));
+    } catch (Exception e) {
+      log.warn("Policy index reconcile failed, keeping previous index: {}", e.getMessage());
+    }
+  }
+
+  private synchronized void applyChangesSince(Instant since) {
+    applied.values().removeIf(updatedAt -> !updatedAt.isAfter(since));
+    List<PolicyChangeJdbcRepository.PolicyChange> changes =
+        changeRepo.findChangedSince(since).stream()
+            .filter(c -> !c.updatedAt().equals(applied.get(c.id())))
+            .toList();
+    if (changes.isEmpty()) return;
+    Map<String, List<PolicyIndex.CompiledPolicy>> fresh = new HashMap<>();
+    Set<UUID> touched = new HashSet<>();
+    Instant latest = watermark;
+    for (PolicyChangeJdbcRepository.PolicyChange change : changes) {
+      touched.add(change.id());
+      applied.put(change.id(), change.updatedAt());
+      fresh.computeIfAbsent(change.permissionCode(), this::load);
+      if (change.updatedAt().isAfter(latest)) latest = change.updatedAt();
+    }
+    current.set(current.get().withRefreshed(fresh, touched));
+    if (latest.isAfter(watermark)) {
+      log.info("Policy index reconciled permission_codes={} watermark={}", fresh.keySet(), latest);
+    }
+    watermark = latest;
+  }
+
+  private List<PolicyIndex.CompiledPolicy> load(String permissionCode) {
+    return policyRepo.findByPermissionCodeAndEnabledTrue(permissionCode).stream()
+        .filter(p -> !p.isDeleted())
+        .map(this::compile)
+        .toList();
+  }
+
+  private synchronized PolicyIndex loadIfAbsent() {
+    PolicyIndex index = current.get();
+    return index != null ? index : rebuild();
+  }
+
+  private PolicyIndex.CompiledPolicy compile(PolicyEntity pe) {
+    return new PolicyIndex.CompiledPolicy(
+        pe.getId(),
+        pe.getPermissionCode(),
+        pe.getEffect(),
+        new HashSet<>(parseJson(pe.getAllowedPlans())),
+        new HashSet<>(parseJson(pe.getAllowedRegions())));
+  }
+
+  private List<String> parseJson(String json) {
+    if (json == null || json.isBlank() || "[]".equals(json)) return List.of();
+    try {
+      return objectMapper.readValue(json, LIST_TYPE);
+    } catch (Exception e) {
+      log.warn("Failed to parse policy JSON: {}", e.getMessage());
+      return List.of();
+    }
+  }
+}
@@ -0,0 +1,5 @@
+package com.union.solutions.saascore.application.flag;
+
+import java.util.UUID;
+
+public record FeatureFlagChangedEvent(UUID tenantId, String flagName) {}
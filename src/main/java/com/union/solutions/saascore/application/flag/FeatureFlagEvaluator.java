@@ -0,0 +1,163 @@
+package com.union.solutions.saascore.application.flag;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagEntity;
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Avalia feature flags a partir de uma tabela em memória por tenant. A tabela é carregada sob
+ * demanda, descartada quando o tenant altera uma flag e expira após {@code app.flags.table-ttl-ms}.
+ */
+@Component
+public class FeatureFlagEvaluator {
+
+  private static final Logger log = LoggerFactory.getLogger(FeatureFlagEvaluator.class);
+  private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+  private final FeatureFlagJpaRepository flagRepo;
+  private final ObjectMapper objectMapper;
+  private final long ttlNanos;
+  private final Map<UUID, FlagTable> tables = new ConcurrentHashMap<>();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  public FeatureFlagEvaluator(
+      FeatureFlagJpaRepository flagRepo,
+      ObjectMapper objectMapper,
+      @Value("${app.flags.table-ttl-ms:60000}") long ttlMs) {
+    this.flagRepo = flagRepo;
+    this.objectMapper = objectMapper;
+    this.ttlNanos = ttlMs * 1_000_000L;
+  }
+
+  /** Avalia as flags pedidas (ou todas do tenant, se {@code flagNames} vier vazio). */
+  public Map<String, FlagEvaluation> evaluate(
+      UUID tenantId, String subject, Collection<String> roles, Collection<String> flagNames) {
+    FlagTable table = table(tenantId);
+    Collection<String> names =
+        flagNames == null || flagNames.isEmpty() ? table.flags().keySet() : flagNames;
+    Map<String, FlagEvaluation> result = new LinkedHashMap<>();
+    for (String name : names) {
+      result.put(name, evaluate(tenantId, table.flags().get(name), subject, roles));
+    }
+    return result;
+  }
+
+  public void invalidate(UUID tenantId) {
+    if (tenantId == null) return;
+    invalidations.incrementAndGet();
+    tables.remove(tenantId);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onFlagChanged(FeatureFlagChangedEvent event) {
+    invalidate(event.tenantId());
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.flags.table-ttl-ms:60000}",
+      initialDelayString = "${app.flags.table-ttl-ms:60000}")
+  public void evictExpired() {
+    long now = System.nanoTime();
+    tables.values().removeIf(t -> t.isExpired(now, ttlNanos));
+  }
+
+  /** Bucket estável em [0, 100) para o par tenant+flag+subject. */
+  public static int bucket(UUID tenantId, String flagName, String subject) {
+    try {
+      String key = tenantId + ":" + flagName + ":" + subject;
+      byte[] h = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+      long value =
+          ((h[0] & 0xFFL) << 24) | ((h[1] & 0xFFL) << 16) | ((h[2] & 0xFFL) << 8) | (h[3] & 0xFFL);
+      return (int) (value % 100);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private FlagEvaluation evaluate(
+      UUID tenantId, CompiledFlag flag, String subject, Collection<String> roles) {
+    if (flag == null) return FlagEvaluation.notFound();
+    if (!flag.enabled()) return FlagEvaluation.disabled();
+    if (!flag.allowedRoles().isEmpty() && !containsAny(flag.allowedRoles(), roles)) {
+      return FlagEvaluation.roleNotAllowed();
+    }
+    if (flag.rolloutPercent() >= 100) return FlagEvaluation.on();
+    if (flag.rolloutPercent() <= 0 || subject == null) return FlagEvaluation.rollout(false);
+    return FlagEvaluation.rollout(bucket(tenantId, flag.name(), subject) < flag.rolloutPercent());
+  }
+
+  private FlagTable table(UUID tenantId) {
+    long now = System.nanoTime();
+    FlagTable table = tables.get(tenantId);
+    if (table != null && !table.isExpired(now, ttlNanos)) return table;
+    long seen = invalidations.get();
+    FlagTable loaded = load(tenantId, now);
+    // Não publica uma tabela carregada enquanto outra alteração chegava.
+    if (invalidations.get() == seen) tables.put(tenantId, loaded);
+    return loaded;
+  }
+
+  private FlagTable load(UUID tenantId, long now) {
+    Map<String, CompiledFlag> flags = new HashMap<>();
+    for (FeatureFlagEntity f : flagRepo.findByTenantId(tenantId)) {
+      if (f.isDeleted()) continue;
+      flags.put(
+          f.getName(),
+          new CompiledFlag(
+              f.getName(),
+              f.isEnabled(),
+              f.getRolloutPercent(),
+              Set.copyOf(parseRoles(f.getAllowedRoles()))));
+    }
+    log.debug("Feature flag table loaded tenant_id={} flags={}", tenantId, flags.size());
+    return new FlagTable(Map.copyOf(flags), now);
+  }
+
+  private List<String> parseRoles(String json) {
+    if (json == null || json.isBlank() || "[]".equals(json)) return List.of();
+    try {
+      return objectMapper.readValue(json, LIST_TYPE).stream().filter(Objects::nonNull).toList();
+    } catch (Exception e) {
+      log.warn("Failed to parse flag allowed_roles: {}", e.getMessage());
+      return List.of();
+    }
+  }
+
+  private static boolean containsAny(Set<String> allowed, Collection<String> roles) {
+    if (roles == null) return false;
+    for (String role : roles) {
+      if (allowed.contains(role)) return true;
+    }
+    return false;
+  }
+
+  private record CompiledFlag(
+      String name, boolean enabled, int rolloutPercent, Set<String> allowedRoles) {}
+
+  private record FlagTable(Map<String, CompiledFlag> flags, long loadedAtNanos) {
+
+    boolean isExpired(long now, long ttlNanos) {
+      return now - loadedAtNanos > ttlNanos;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.union.solutions.saascore.application.flag;
+
+public record FlagEvaluation(boolean enabled, String reason) {
+
+  private static final FlagEvaluation ON = new FlagEvaluation(true, "enabled");
+  private static final FlagEvaluation NOT_FOUND = new FlagEvaluation(false, "not_found");
+  private static final FlagEvaluation DISABLED = new FlagEvaluation(false, "disabled");
+  private static final FlagEvaluation ROLE_NOT_ALLOWED =
+      new FlagEvaluation(false, "role_not_allowed");
+  private static final FlagEvaluation ROLLOUT_IN = new FlagEvaluation(true, "rollout_included");
+  private static final FlagEvaluation ROLLOUT_OUT = new FlagEvaluation(false, "rollout_excluded");
+
+  public static FlagEvaluation on() {
+    return ON;
+  }
+
+  public static FlagEvaluation notFound() {
+    return NOT_FOUND;
+  }
+
+  public static FlagEvaluation disabled() {
+    return DISABLED;
+  }
+
+  public static FlagEvaluation roleNotAllowed() {
+    return ROLE_NOT_ALLOWED;
+  }
+
+  public static FlagEvaluation rollout(boolean included) {
+    return included ? ROLLOUT_IN : ROLLOUT_OUT;
+  }
+}
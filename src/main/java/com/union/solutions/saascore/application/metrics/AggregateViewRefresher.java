@@ -0,0 +1,131 @@
+package com.union.solutions.saascore.application.metrics;
+
+import com.union.solutions.saascore.adapters.out.persistence.AggregateViewJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Atualiza as materialized views de agregados: após eventos de tenant/flag (com intervalo mínimo
+ * entre refreshes) ou, sem eventos, a cada {@code app.reporting.views.refresh-ms}. O refresh roda
+ * numa thread própria para não ocupar o scheduler compartilhado.
+ */
+@Component
+public class AggregateViewRefresher {
+
+  private static final Logger log = LoggerFactory.getLogger(AggregateViewRefresher.class);
+
+  private final AggregateViewJdbcRepository viewRepo;
+  private final TransactionTemplate tx;
+  private final Executor executor;
+  private final long minIntervalMs;
+  private final long refreshMs;
+  private final LongSupplier clock;
+  private final AtomicBoolean dirty = new AtomicBoolean();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile long lastRefreshAt;
+
+  @Autowired
+  public AggregateViewRefresher(
+      AggregateViewJdbcRepository viewRepo,
+      TransactionTemplate tx,
+      @Value("${app.reporting.views.min-interval-ms:10000}") long minIntervalMs,
+      @Value("${app.reporting.views.refresh-ms:300000}") long refreshMs) {
+    this(
+        viewRepo,
+        tx,
+        minIntervalMs,
+        refreshMs,
+        System::currentTimeMillis,
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread t = new Thread(r, "aggregate-view-refresh");
+              t.setDaemon(true);
+              return t;
+            }));
+  }
+
+  public AggregateViewRefresher(
+      AggregateViewJdbcRepository viewRepo,
+      TransactionTemplate tx,
+      long minIntervalMs,
+      long refreshMs,
+      LongSupplier clock,
+      Executor executor) {
+    this.viewRepo = viewRepo;
+    this.tx = tx;
+    this.executor = executor;
+    this.minIntervalMs = minIntervalMs;
+    this.refreshMs = refreshMs;
+    this.clock = clock;
+    this.lastRefreshAt = clock.getAsLong();
+  }
+
+  public void markDirty() {
+    dirty.set(true);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.reporting.views.min-interval-ms:10000}",
+      initialDelayString = "${app.reporting.views.min-interval-ms:10000}")
+  public void tick() {
+    long elapsed = clock.getAsLong() - lastRefreshAt;
+    if (elapsed >= refreshMs || (dirty.get() && elapsed >= minIntervalMs)) refreshAsync();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (executor instanceof ExecutorService service) service.shutdownNow();
+  }
+
+  /** Um refresh por vez; ticks durante um refresh longo são descartados. */
+  private void refreshAsync() {
+    if (!running.compareAndSet(false, true)) return;
+    try {
+      executor.execute(
+          () -> {
+            try {
+              refresh();
+            } finally {
+              running.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      running.set(false);
+    }
+  }
+
+  public boolean refresh() {
+    dirty.set(false);
+    lastRefreshAt = clock.getAsLong();
+    try {
+      Boolean refreshed =
+          tx.execute(
+              status -> {
+                // Outra réplica já está atualizando; o resultado serve para todas.
+                if (!viewRepo.tryRefreshLock()) return false;
+                AggregateViewJdbcRepository.VIEWS.forEach(viewRepo::refresh);
+                return true;
+              });
+      if (Boolean.TRUE.equals(refreshed)) {
+        log.debug("Aggregate views refreshed views={}", AggregateViewJdbcRepository.VIEWS);
+        return true;
+      }
+    } catch (Exception e) {
+      dirty.set(true);
+      log.warn("Aggregate view refresh failed: {}", e.getMessage());
+    }
+    return false;
+  }
+}
@@ -0,0 +1,197 @@
+package com.union.solutions.saascore.application.metrics;
+
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.TenantQueryJdbcRepository;
+import com.union.solutions.saascore.domain.Tenant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Contadores de negócio mantidos em memória: aplicados a partir dos eventos de domínio do outbox e
+ * reconciliados periodicamente com as tabelas base (não com as materialized views, que podem estar
+ * defasadas). A leitura não consulta o banco.
+ */
+@Component
+public class BusinessMetricsAggregator {
+
+  private static final Logger log = LoggerFactory.getLogger(BusinessMetricsAggregator.class);
+
+  private final TenantQueryJdbcRepository tenantQueries;
+  private final PolicyJpaRepository policyRepo;
+  private final FeatureFlagJpaRepository flagRepo;
+  private final MeterRegistry registry;
+  private final TransactionTemplate snapshotTx;
+  private final ConcurrentMap<TenantKey, AtomicLong> tenants = new ConcurrentHashMap<>();
+  private final AtomicLong activePolicies = new AtomicLong();
+  private final AtomicLong activeFlags = new AtomicLong();
+  private volatile boolean loaded;
+  private volatile Instant watermark;
+
+  public BusinessMetricsAggregator(
+      TenantQueryJdbcRepository tenantQueries,
+      PolicyJpaRepository policyRepo,
+      FeatureFlagJpaRepository flagRepo,
+      MeterRegistry registry,
+      PlatformTransactionManager txManager) {
+    this.tenantQueries = tenantQueries;
+    this.policyRepo = policyRepo;
+    this.flagRepo = flagRepo;
+    this.registry = registry;
+    this.snapshotTx = new TransactionTemplate(txManager);
+    snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    snapshotTx.setReadOnly(true);
+    Gauge.builder("saas_active_policies", activePolicies, AtomicLong::get)
+        .description("Enabled, non-deleted ABAC policies")
+        .register(registry);
+    Gauge.builder("saas_active_flags", activeFlags, AtomicLong::get)
+        .description("Enabled, non-deleted feature flags")
+        .register(registry);
+  }
+
+  public Snapshot snapshot() {
+    if (!loaded) load();
+    Map<Tenant.TenantStatus, Long> byStatus = new EnumMap<>(Tenant.TenantStatus.class);
+    for (Tenant.TenantStatus status : Tenant.TenantStatus.values()) byStatus.put(status, 0L);
+    Map<String, Map<String, Long>> byPlan = new TreeMap<>();
+    tenants.forEach(
+        (key, counter) -> {
+          long count = counter.get();
+          if (count == 0) return;
+          byStatus.merge(key.status(), count, Long::sum);
+          byPlan
+              .computeIfAbsent(key.plan(), k -> new LinkedHashMap<>())
+              .put(key.status().name(), count);
+        });
+    return new Snapshot(byStatus, byPlan, activePolicies.get(), activeFlags.get());
+  }
+
+  /**
+   * Aplica o delta de um evento de domínio. Eventos sem o estado anterior no payload (anteriores a
+   * esta versão) são ignorados e ficam a cargo do reconcile, assim como eventos criados até o
+   * watermark do último reconcile, que já estão nas contagens (redelivery ou atraso da fila).
+   */
+  public synchronized void apply(String eventType, Instant createdAt, Map<String, String> payload) {
+    if (!loaded || eventType == null || payload == null) return;
+    if (createdAt != null && !createdAt.isAfter(watermark)) return;
+    switch (eventType) {
+      case "tenant.created" -> adjust(payload.get("plan"), "ACTIVE", 1);
+      case "tenant.updated" -> {
+        adjust(payload.get("previousPlan"), payload.get("previousStatus"), -1);
+        if (payload.containsKey("previousStatus")) {
+          adjust(payload.get("plan"), payload.get("status"), 1);
+        }
+      }
+      case "tenant.deleted" -> {
+        adjust(payload.get("plan"), payload.get("previousStatus"), -1);
+        if (payload.containsKey("previousStatus")) adjust(payload.get("plan"), "DELETED", 1);
+      }
+      case "policy.created", "policy.updated", "policy.deleted" -> {
+        activePolicies.addAndGet(enabledDelta(payload));
+      }
+      case "flag.created", "flag.toggled", "flag.deleted" -> {
+        activeFlags.addAndGet(enabledDelta(payload));
+      }
+      default -> {}
+    }
+  }
+
+  /**
+   * Corrige deriva (eventos perdidos, duplicados ou fora de ordem). Um evento criado antes do
+   * watermark mas commitado depois do snapshot é descartado pelo apply; o próximo ciclo o absorve.
+   */
+  @Scheduled(
+      fixedDelayString = "${app.metrics.business.reconcile-ms:60000}",
+      initialDelayString = "${app.metrics.business.reconcile-ms:60000}")
+  public void reconcile() {
+    try {
+      load();
+    } catch (Exception e) {
+      log.warn("Business metrics reconcile failed, keeping previous counters: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Contagens e watermark vêm do mesmo snapshot REPEATABLE READ; {@code now()} é o início da
+   * transação, então um evento criado depois dele não pode estar nas contagens.
+   */
+  private synchronized void load() {
+    Counts counts =
+        snapshotTx.execute(
+            status -> {
+              Map<TenantKey, Long> byKey = new HashMap<>();
+              Instant asOf = tenantQueries.transactionTimestamp();
+              for (TenantQueryJdbcRepository.PlanStatusCount row :
+                  tenantQueries.countByPlanAndStatus()) {
+                byKey.put(new TenantKey(row.plan(), row.status()), row.total());
+              }
+              return new Counts(asOf, byKey, policyRepo.countActive(), flagRepo.countActiveFlags());
+            });
+    tenants.forEach((key, counter) -> counter.set(counts.tenants().getOrDefault(key, 0L)));
+    counts.tenants().forEach((key, count) -> counter(key).set(count));
+    activePolicies.set(counts.policies());
+    activeFlags.set(counts.flags());
+    watermark = counts.asOf();
+    loaded = true;
+    log.debug(
+        "Business metrics reconciled plans_statuses={} watermark={}",
+        counts.tenants().size(),
+        counts.asOf());
+  }
+
+  private void adjust(String plan, String status, long delta) {
+    if (plan == null || status == null) return;
+    try {
+      counter(new TenantKey(plan, Tenant.TenantStatus.valueOf(status))).addAndGet(delta);
+    } catch (IllegalArgumentException e) {
+      log.debug("Unknown tenant status in event: {}", status);
+    }
+  }
+
+  private AtomicLong counter(TenantKey key) {
+    return tenants.computeIfAbsent(
+        key,
+        k -> {
+          AtomicLong counter = new AtomicLong();
+          Gauge.builder("saas_tenants", counter, AtomicLong::get)
+              .description("Tenants per plan and status")
+              .tag("plan", k.plan())
+              .tag("status", k.status().name())
+              .register(registry);
+          return counter;
+        });
+  }
+
+  private static long enabledDelta(Map<String, String> payload) {
+    long delta = 0;
+    if (Boolean.parseBoolean(payload.get("enabled"))) delta++;
+    if (Boolean.parseBoolean(payload.get("previousEnabled"))) delta--;
+    return delta;
+  }
+
+  private record TenantKey(String plan, Tenant.TenantStatus status) {}
+
+  private record Counts(Instant asOf, Map<TenantKey, Long> tenants, long policies, long flags) {}
+
+  public record Snapshot(
+      Map<Tenant.TenantStatus, Long> tenantsByStatus,
+      Map<String, Map<String, Long>> tenantsByPlan,
+      long activePolicies,
+      long activeFlags) {}
+}
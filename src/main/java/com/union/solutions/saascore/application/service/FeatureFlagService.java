@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagEntity;
 import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.application.flag.FeatureFlagChangedEvent;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.config.TenantContext;
 import io.micrometer.core.instrument.Counter;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,18 +27,21 @@ public class FeatureFlagService {
   private final AuditLogger auditLogger;
   private final ObjectMapper objectMapper;
   private final Counter flagsToggledCounter;
+  private final ApplicationEventPublisher eventPublisher;
 
   public FeatureFlagService(
       FeatureFlagJpaRepository repo,
       OutboxPublisherPort outboxPublisher,
-      AuditLogger auditLogger,
+      @Qualifier("transactionalAuditLogger") AuditLogger auditLogger,
       ObjectMapper objectMapper,
-      @Qualifier("flagsToggledCounter") Counter flagsToggledCounter) {
+      @Qualifier("flagsToggledCounter") Counter flagsToggledCounter,
+      ApplicationEventPublisher eventPublisher) {
     this.repo = repo;
     this.outboxPublisher = outboxPublisher;
     this.auditLogger = auditLogger;
     this.objectMapper = objectMapper;
     this.flagsToggledCounter = flagsToggledCounter;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -60,7 +65,8 @@ public class FeatureFlagService {
         "FLAG",
         entity.getId().toString(),
         "flag.created",
-        Map.of("tenantId", tenantId.toString(), "name", name));
+        Map.of("tenantId", tenantId.toString(), "name", name, "enabled", String.valueOf(enabled)));
+    eventPublisher.publishEvent(new FeatureFlagChangedEvent(tenantId, name));
     auditLogger.log(
         tenantId,
         TenantContext.getSubject(),
@@ -92,6 +98,7 @@ public class FeatureFlagService {
     return repo.findByTenantIdAndName(tenantId, name)
         .map(
             entity -> {
+              boolean previousEnabled = entity.isEnabled();
               if (enabled != null) entity.setEnabled(enabled);
               if (rolloutPercent != null)
                 entity.setRolloutPercent(Math.max(0, Math.min(100, rolloutPercent)));
@@ -103,7 +110,12 @@ public class FeatureFlagService {
                   "FLAG",
                   entity.getId().toString(),
                   "flag.toggled",
-                  Map.of("tenantId", tenantId.toString(), "name", name));
+                  Map.of(
+                      "tenantId", tenantId.toString(),
+                      "name", name,
+                      "enabled", String.valueOf(entity.isEnabled()),
+                      "previousEnabled", String.valueOf(previousEnabled)));
+              eventPublisher.publishEvent(new FeatureFlagChangedEvent(tenantId, name));
               auditLogger.log(
                   tenantId,
                   TenantContext.getSubject(),
@@ -134,7 +146,11 @@ public class FeatureFlagService {
                   "FLAG",
                   entity.getId().toString(),
                   "flag.deleted",
-                  Map.of("tenantId", tenantId.toString(), "name", name));
+                  Map.of(
+                      "tenantId", tenantId.toString(),
+                      "name", name,
+                      "previousEnabled", String.valueOf(entity.isEnabled())));
+              eventPublisher.publishEvent(new FeatureFlagChangedEvent(tenantId, name));
               auditLogger.log(
                   tenantId,
                   TenantContext.getSubject(),
@@ -0,0 +1,42 @@
+package com.union.solutions.saascore.application.service;
+
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository;
+import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.config.TenantContext;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OutboxReplayService {
+
+  private final OutboxEventJdbcRepository outboxRepo;
+  private final AuditLogger auditLogger;
+
+  public OutboxReplayService(
+      OutboxEventJdbcRepository outboxRepo,
+      @Qualifier("transactionalAuditLogger") AuditLogger auditLogger) {
+    this.outboxRepo = outboxRepo;
+    this.auditLogger = auditLogger;
+  }
+
+  @Transactional
+  public int replay(String aggregateType, String eventType, int limit) {
+    int replayed = outboxRepo.replayDeadLetters(aggregateType, eventType, limit, Instant.now());
+    auditLogger.log(
+        TenantContext.getTenantId().orElse(null),
+        TenantContext.getSubject(),
+        TenantContext.getRoles().toString(),
+        TenantContext.getPerms().toString(),
+        "OUTBOX_REPLAYED",
+        "outbox_dead_letter",
+        aggregateType != null ? aggregateType : "*",
+        null,
+        null,
+        200,
+        TenantContext.getCorrelationId(),
+        "{\"replayed\":" + replayed + "}");
+    return replayed;
+  }
+}
@@ -1,48 +1,65 @@
 package com.union.solutions.saascore.application.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyQueryJdbcRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.application.abac.PolicyChangedEvent;
+import com.union.solutions.saascore.application.abac.PolicyIndex;
+import com.union.solutions.saascore.application.abac.PolicyIndexProvider;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.config.TenantContext;
 import com.union.solutions.saascore.domain.Policy;
 import io.micrometer.core.instrument.Counter;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PolicyService {
 
-  private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+  /** findAllById não garante ordem; a resposta precisa ser estável para o ETag forte. */
+  private static final Comparator<PolicyEntity> APPLICABLE_ORDER =
+      Comparator.comparing(PolicyEntity::getPermissionCode).thenComparing(PolicyEntity::getId);
 
   private final PolicyJpaRepository repo;
   private final OutboxPublisherPort outboxPublisher;
   private final AuditLogger auditLogger;
   private final ObjectMapper objectMapper;
   private final Counter policiesUpdatedCounter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PolicyIndexProvider indexProvider;
+  private final PolicyQueryJdbcRepository queryRepo;
 
   public PolicyService(
       PolicyJpaRepository repo,
       OutboxPublisherPort outboxPublisher,
-      AuditLogger auditLogger,
+      @Qualifier("transactionalAuditLogger") AuditLogger auditLogger,
       ObjectMapper objectMapper,
-      @Qualifier("policiesUpdatedCounter") Counter policiesUpdatedCounter) {
+      @Qualifier("policiesUpdatedCounter") Counter policiesUpdatedCounter,
+      ApplicationEventPublisher eventPublisher,
+      PolicyIndexProvider indexProvider,
+      PolicyQueryJdbcRepository queryRepo) {
     this.repo = repo;
     this.outboxPublisher = outboxPublisher;
     this.auditLogger = auditLogger;
     this.objectMapper = objectMapper;
     this.policiesUpdatedCounter = policiesUpdatedCounter;
+    this.eventPublisher = eventPublisher;
+    this.indexProvider = indexProvider;
+    this.queryRepo = queryRepo;
   }
 
   @Transactional
@@ -69,7 +86,11 @@ public class PolicyService {
         "POLICY",
         entity.getId().toString(),
         "policy.created",
-        Map.of("permissionCode", permissionCode, "effect", effect.name()));
+        Map.of(
+            "permissionCode", permissionCode,
+            "effect", effect.name(),
+            "enabled", String.valueOf(enabled)));
+    eventPublisher.publishEvent(new PolicyChangedEvent(entity.getId(), permissionCode));
     auditLogger.log(
         TenantContext.getTenantId().orElse(null),
         TenantContext.getSubject(),
@@ -92,6 +113,16 @@ public class PolicyService {
     return repo.search(permissionCode, effect, enabled, pageable);
   }
 
+  @Transactional(readOnly = true)
+  public Slice<PolicyEntity> searchSlice(
+      String permissionCode, Policy.Effect effect, Boolean enabled, Pageable pageable) {
+    return queryRepo.findSlice(permissionCode, effect, enabled, pageable);
+  }
+
+  public long estimateCount(String permissionCode, Policy.Effect effect, Boolean enabled) {
+    return queryRepo.estimateCount(permissionCode, effect, enabled);
+  }
+
   @Transactional(readOnly = true)
   public Optional<PolicyEntity> getById(UUID id) {
     return repo.findActiveById(id);
@@ -109,6 +140,7 @@ public class PolicyService {
     return repo.findActiveById(id)
         .map(
             entity -> {
+              boolean previousEnabled = entity.isEnabled();
               if (permissionCode != null) entity.setPermissionCode(permissionCode);
               if (effect != null) entity.setEffect(effect);
               if (allowedPlans != null) entity.setAllowedPlans(toJson(allowedPlans));
@@ -124,7 +156,10 @@ public class PolicyService {
                   "policy.updated",
                   Map.of(
                       "permissionCode", entity.getPermissionCode(),
-                      "effect", entity.getEffect().name()));
+                      "effect", entity.getEffect().name(),
+                      "enabled", String.valueOf(entity.isEnabled()),
+                      "previousEnabled", String.valueOf(previousEnabled)));
+              eventPublisher.publishEvent(new PolicyChangedEvent(id, entity.getPermissionCode()));
               auditLogger.log(
                   TenantContext.getTenantId().orElse(null),
                   TenantContext.getSubject(),
@@ -155,7 +190,10 @@ public class PolicyService {
                   "POLICY",
                   id.toString(),
                   "policy.deleted",
-                  Map.of("permissionCode", entity.getPermissionCode()));
+                  Map.of(
+                      "permissionCode", entity.getPermissionCode(),
+                      "previousEnabled", String.valueOf(entity.isEnabled())));
+              eventPublisher.publishEvent(new PolicyChangedEvent(id, entity.getPermissionCode()));
               auditLogger.log(
                   TenantContext.getTenantId().orElse(null),
                   TenantContext.getSubject(),
@@ -174,17 +212,20 @@ public class PolicyService {
         .orElse(false);
   }
 
+  /**
+   * Resolve pelo índice invertido em memória (interseção plano × região) e carrega só as políticas
+   * resultantes por id.
+   */
   @Transactional(readOnly = true)
   public List<PolicyEntity> getApplicablePolicies(String plan, String region) {
-    return repo.findByEnabledTrue().stream()
-        .filter(
-            p -> {
-              List<String> plans = parseJson(p.getAllowedPlans());
-              List<String> regions = parseJson(p.getAllowedRegions());
-              boolean planMatch = plans.isEmpty() || plans.contains(plan);
-              boolean regionMatch = regions.isEmpty() || regions.contains(region);
-              return planMatch && regionMatch;
-            })
+    List<UUID> ids =
+        indexProvider.current().applicable(plan, region).stream()
+            .map(PolicyIndex.CompiledPolicy::id)
+            .toList();
+    if (ids.isEmpty()) return List.of();
+    return repo.findAllById(ids).stream()
+        .filter(p -> p.isEnabled() && !p.isDeleted())
+        .sorted(APPLICABLE_ORDER)
         .toList();
   }
 
@@ -200,13 +241,4 @@ public class PolicyService {
       return "[]";
     }
   }
-
-  private List<String> parseJson(String json) {
-    if (json == null || json.isBlank() || "[]".equals(json)) return List.of();
-    try {
-      return objectMapper.readValue(json, LIST_TYPE);
-    } catch (Exception e) {
-      return List.of();
-    }
-  }
 }
@@ -2,6 +2,7 @@ package com.union.solutions.saascore.application.tenant;
 
 import com.union.solutions.saascore.adapters.out.persistence.TenantEntity;
 import com.union.solutions.saascore.adapters.out.persistence.TenantJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.TenantQueryJdbcRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.config.TenantContext;
@@ -14,8 +15,8 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TenantUseCase {
 
   private final TenantJpaRepository tenantRepo;
+  private final TenantQueryJdbcRepository queryRepo;
   private final OutboxPublisherPort outboxPublisher;
   private final AuditLogger auditLogger;
   private final Counter tenantsCreatedCounter;
@@ -30,9 +32,11 @@ public class TenantUseCase {
   public TenantUseCase(
       TenantJpaRepository tenantRepo,
       OutboxPublisherPort outboxPublisher,
-      AuditLogger auditLogger,
-      @Qualifier("tenantsCreatedCounter") Counter tenantsCreatedCounter) {
+      @Qualifier("transactionalAuditLogger") AuditLogger auditLogger,
+      @Qualifier("tenantsCreatedCounter") Counter tenantsCreatedCounter,
+      TenantQueryJdbcRepository queryRepo) {
     this.tenantRepo = tenantRepo;
+    this.queryRepo = queryRepo;
     this.outboxPublisher = outboxPublisher;
     this.auditLogger = auditLogger;
     this.tenantsCreatedCounter = tenantsCreatedCounter;
@@ -77,19 +81,26 @@ public class TenantUseCase {
     return tenantRepo.search(status, plan, region, name, pageable).map(TenantEntity::toDomain);
   }
 
+  @Transactional(readOnly = true)
+  public Slice<Tenant> searchSlice(
+      Tenant.TenantStatus status, String plan, String region, String name, Pageable pageable) {
+    return queryRepo.findSlice(status, plan, region, name, pageable);
+  }
+
+  public long estimateCount(Tenant.TenantStatus status, String plan, String region, String name) {
+    return queryRepo.estimateCount(status, plan, region, name);
+  }
+
   @Transactional(readOnly = true)
   public List<Tenant> searchCursor(
       Tenant.TenantStatus status,
       String plan,
       String region,
       String name,
-      Instant cursor,
+      Instant cursorCreatedAt,
+      UUID cursorId,
       int limit) {
-    return tenantRepo
-        .findNextPage(status, plan, region, name, cursor, PageRequest.of(0, limit))
-        .stream()
-        .map(TenantEntity::toDomain)
-        .toList();
+    return queryRepo.findAfter(status, plan, region, name, cursorCreatedAt, cursorId, limit);
   }
 
   @Transactional
@@ -99,6 +110,8 @@ public class TenantUseCase {
         .findById(id)
         .map(
             entity -> {
+              String previousPlan = entity.getPlan();
+              Tenant.TenantStatus previousStatus = entity.getStatus();
               if (name != null) entity.setName(name);
               if (plan != null) entity.setPlan(plan);
               if (region != null) entity.setRegion(region);
@@ -109,7 +122,12 @@ public class TenantUseCase {
                   "TENANT",
                   id.toString(),
                   "tenant.updated",
-                  Map.of("name", entity.getName(), "plan", entity.getPlan()));
+                  Map.of(
+                      "name", entity.getName(),
+                      "plan", entity.getPlan(),
+                      "status", entity.getStatus().name(),
+                      "previousPlan", previousPlan,
+                      "previousStatus", previousStatus.name()));
               auditLogger.log(
                   TenantContext.getTenantId().orElse(null),
                   TenantContext.getSubject(),
@@ -133,6 +151,7 @@ public class TenantUseCase {
         .findById(id)
         .map(
             entity -> {
+              Tenant.TenantStatus previousStatus = entity.getStatus();
               entity.setStatus(Tenant.TenantStatus.DELETED);
               entity.setUpdatedAt(Instant.now());
               tenantRepo.save(entity);
@@ -140,7 +159,10 @@ public class TenantUseCase {
                   "TENANT",
                   id.toString(),
                   "tenant.deleted",
-                  Map.of("name", entity.getName(), "plan", entity.getPlan()));
+                  Map.of(
+                      "name", entity.getName(),
+                      "plan", entity.getPlan(),
+                      "previousStatus", previousStatus.name()));
               auditLogger.log(
                   TenantContext.getTenantId().orElse(null),
                   TenantContext.getSubject(),
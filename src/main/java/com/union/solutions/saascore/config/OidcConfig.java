@@ -1,5 +1,13 @@
 package com.union.solutions.saascore.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.union.solutions.saascore.infrastructure.security.JwksManager;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -15,21 +23,19 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 @ConditionalOnProperty(name = "app.auth.mode", havingValue = "oidc")
 public class OidcConfig {
 
+  /** Chaves vêm do {@link JwksManager} (pré-carregado); o decoder nunca busca o IdP. */
   @Bean
   public JwtDecoder jwtDecoder(
-      @Value("${app.auth.oidc.jwk-set-uri:}") String jwkSetUri,
+      JwksManager jwksManager,
       @Value("${app.auth.oidc.issuer-uri:}") String issuerUri,
-      @Value("${app.auth.oidc.audience:}") String audience) {
-    NimbusJwtDecoder decoder;
-    if (jwkSetUri != null && !jwkSetUri.isBlank()) {
-      decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
-    } else if (issuerUri != null && !issuerUri.isBlank()) {
-      decoder = NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
-    } else {
-      throw new IllegalStateException(
-          "OIDC mode requires app.auth.oidc.jwk-set-uri or app.auth.oidc.issuer-uri. "
-              + "Example: OIDC_ISSUER_URI=https://keycloak.example.com/realms/saas");
-    }
+      @Value("${app.auth.oidc.jws-algorithms:RS256}") List<String> algorithms) {
+    Set<JWSAlgorithm> jwsAlgorithms =
+        algorithms.stream().map(String::trim).map(JWSAlgorithm::parse).collect(Collectors.toSet());
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(new JWSVerificationKeySelector<>(jwsAlgorithms, jwksManager));
+    // Claims são validadas pelos OAuth2TokenValidators abaixo, como no builder do Spring.
+    processor.setJWTClaimsSetVerifier((claims, context) -> {});
+    NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
 
     DelegatingOAuth2TokenValidator<Jwt> validators;
     if (issuerUri != null && !issuerUri.isBlank()) {
@@ -0,0 +1,13 @@
+package com.union.solutions.saascore.config;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Identidade da requisição autenticada; roles/perms são as listas canônicas do registry. */
+public record RequestPrincipal(
+    String subject,
+    UUID tenantId,
+    String plan,
+    String region,
+    List<String> roles,
+    List<String> perms) {}
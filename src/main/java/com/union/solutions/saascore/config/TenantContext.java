@@ -3,80 +3,187 @@ package com.union.solutions.saascore.config;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
+/**
+ * Contexto da requisição como um {@link Snapshot} imutável por thread. Não depende de thread de
+ * plataforma: funciona igual com virtual threads, e {@link #capture()}/{@link #wrap} levam o mesmo
+ * snapshot para tarefas executadas em outras threads.
+ */
 public final class TenantContext {
 
-  private static final ThreadLocal<Holder> HOLDER = ThreadLocal.withInitial(Holder::new);
+  private static final ThreadLocal<Snapshot> CURRENT = new ThreadLocal<>();
 
   private TenantContext() {}
 
+  public static Snapshot capture() {
+    Snapshot s = CURRENT.get();
+    return s != null ? s : Snapshot.EMPTY;
+  }
+
+  /** Torna {@code snapshot} o contexto corrente e devolve o anterior, para ser restaurado. */
+  public static Snapshot attach(Snapshot snapshot) {
+    Snapshot previous = capture();
+    set(snapshot);
+    return previous;
+  }
+
+  /** Executa com {@code snapshot} como contexto corrente e restaura o anterior ao final. */
+  public static void runWith(Snapshot snapshot, Runnable task) {
+    Snapshot previous = attach(snapshot);
+    try {
+      task.run();
+    } finally {
+      set(previous);
+    }
+  }
+
+  public static <T> T callWith(Snapshot snapshot, Callable<T> task) throws Exception {
+    Snapshot previous = attach(snapshot);
+    try {
+      return task.call();
+    } finally {
+      set(previous);
+    }
+  }
+
+  /** Captura o contexto agora; a tarefa devolvida roda com ele em qualquer thread. */
+  public static Runnable wrap(Runnable task) {
+    Snapshot snapshot = capture();
+    return () -> runWith(snapshot, task);
+  }
+
+  public static <T> Callable<T> wrap(Callable<T> task) {
+    Snapshot snapshot = capture();
+    return () -> callWith(snapshot, task);
+  }
+
   public static void setTenantId(UUID tenantId) {
-    HOLDER.get().tenantId = tenantId;
+    set(capture().withTenantId(tenantId));
   }
 
   public static Optional<UUID> getTenantId() {
-    return Optional.ofNullable(HOLDER.get().tenantId);
+    return Optional.ofNullable(capture().tenantId());
   }
 
   public static void setCorrelationId(String correlationId) {
-    HOLDER.get().correlationId = correlationId;
+    set(capture().withCorrelationId(correlationId));
   }
 
   public static String getCorrelationId() {
-    return HOLDER.get().correlationId;
+    return capture().correlationId();
   }
 
   public static void setSubject(String subject) {
-    HOLDER.get().subject = subject;
+    set(capture().withSubject(subject));
   }
 
   public static String getSubject() {
-    return HOLDER.get().subject;
+    return capture().subject();
   }
 
   public static void setPlan(String plan) {
-    HOLDER.get().plan = plan;
+    set(capture().withPlan(plan));
   }
 
   public static String getPlan() {
-    return HOLDER.get().plan != null ? HOLDER.get().plan : "";
+    String plan = capture().plan();
+    return plan != null ? plan : "";
   }
 
   public static void setRegion(String region) {
-    HOLDER.get().region = region;
+    set(capture().withRegion(region));
   }
 
   public static String getRegion() {
-    return HOLDER.get().region != null ? HOLDER.get().region : "";
+    String region = capture().region();
+    return region != null ? region : "";
   }
 
   public static void setRoles(List<String> roles) {
-    HOLDER.get().roles = roles;
+    set(capture().withRoles(roles));
   }
 
   public static List<String> getRoles() {
-    return HOLDER.get().roles != null ? HOLDER.get().roles : List.of();
+    List<String> roles = capture().roles();
+    return roles != null ? roles : List.of();
   }
 
   public static void setPerms(List<String> perms) {
-    HOLDER.get().perms = perms;
+    set(capture().withPerms(perms));
   }
 
   public static List<String> getPerms() {
-    return HOLDER.get().perms != null ? HOLDER.get().perms : List.of();
+    List<String> perms = capture().perms();
+    return perms != null ? perms : List.of();
+  }
+
+  /** Preenche toda a identidade de uma vez, mantendo o correlation id já definido. */
+  public static void setPrincipal(RequestPrincipal principal) {
+    set(
+        new Snapshot(
+            principal.tenantId(),
+            capture().correlationId(),
+            principal.subject(),
+            principal.plan(),
+            principal.region(),
+            principal.roles(),
+            principal.perms(),
+            principal));
+  }
+
+  public static RequestPrincipal getPrincipal() {
+    return capture().principal();
   }
 
   public static void clear() {
-    HOLDER.remove();
+    CURRENT.remove();
   }
 
-  private static class Holder {
-    UUID tenantId;
-    String correlationId;
-    String subject;
-    String plan;
-    String region;
-    List<String> roles;
-    List<String> perms;
+  private static void set(Snapshot snapshot) {
+    if (snapshot == null || snapshot == Snapshot.EMPTY) CURRENT.remove();
+    else CURRENT.set(snapshot);
+  }
+
+  public record Snapshot(
+      UUID tenantId,
+      String correlationId,
+      String subject,
+      String plan,
+      String region,
+      List<String> roles,
+      List<String> perms,
+      RequestPrincipal principal) {
+
+    public static final Snapshot EMPTY =
+        new Snapshot(null, null, null, null, null, null, null, null);
+
+    public Snapshot withTenantId(UUID value) {
+      return new Snapshot(value, correlationId, subject, plan, region, roles, perms, principal);
+    }
+
+    public Snapshot withCorrelationId(String value) {
+      return new Snapshot(tenantId, value, subject, plan, region, roles, perms, principal);
+    }
+
+    public Snapshot withSubject(String value) {
+      return new Snapshot(tenantId, correlationId, value, plan, region, roles, perms, principal);
+    }
+
+    public Snapshot withPlan(String value) {
+      return new Snapshot(tenantId, correlationId, subject, value, region, roles, perms, principal);
+    }
+
+    public Snapshot withRegion(String value) {
+      return new Snapshot(tenantId, correlationId, subject, plan, value, roles, perms, principal);
+    }
+
+    public Snapshot withRoles(List<String> value) {
+      return new Snapshot(tenantId, correlationId, subject, plan, region, value, perms, principal);
+    }
+
+    public Snapshot withPerms(List<String> value) {
+      return new Snapshot(tenantId, correlationId, subject, plan, region, roles, value, principal);
+    }
   }
 }
@@ -0,0 +1,167 @@
+package com.union.solutions.saascore.infrastructure.audit;
+
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
+import com.union.solutions.saascore.application.abac.AuditLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enfileira eventos de auditoria em um buffer limitado e grava em lotes JDBC, por tamanho ou por
+ * tempo. Com o buffer cheio, ACCESS_DENIED é descartado (e contado); demais ações caem para a
+ * escrita síncrona. Com {@code app.audit.async.enabled=false} toda escrita é síncrona.
+ */
+@Primary
+@Component
+public class AsyncAuditLogger implements AuditLogger {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncAuditLogger.class);
+  private static final String DROPPABLE_ACTION = "ACCESS_DENIED";
+
+  private final AuditLogJdbcWriter writer;
+  private final BlockingQueue<AuditRow> queue;
+  private final Counter droppedCounter;
+  private final Timer flushTimer;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final boolean enabled;
+  private volatile boolean accepting;
+  private volatile boolean running;
+  private Thread flusher;
+
+  public AsyncAuditLogger(
+      AuditLogJdbcWriter writer,
+      MeterRegistry registry,
+      @Qualifier("auditDroppedCounter") Counter droppedCounter,
+      @Value("${app.audit.async.enabled:true}") boolean enabled,
+      @Value("${app.audit.async.capacity:10000}") int capacity,
+      @Value("${app.audit.async.batch-size:200}") int batchSize,
+      @Value("${app.audit.async.flush-interval-ms:500}") long flushIntervalMs) {
+    this.writer = writer;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.droppedCounter = droppedCounter;
+    this.enabled = enabled;
+    this.accepting = enabled;
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    this.flushTimer =
+        Timer.builder("saas_audit_flush_seconds")
+            .description("Audit log batch insert latency")
+            .register(registry);
+    Gauge.builder("saas_audit_queue_depth", queue, BlockingQueue::size)
+        .description("Audit events waiting to be flushed")
+        .register(registry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) return;
+    running = true;
+    flusher = new Thread(this::runFlusher, "audit-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    accepting = false;
+    if (flusher == null) return;
+    running = false;
+    flusher.join(TimeUnit.SECONDS.toMillis(5));
+  }
+
+  @Override
+  public void log(
+      UUID tenantId,
+      String actorSub,
+      String actorRoles,
+      String actorPerms,
+      String action,
+      String resourceType,
+      String resourceId,
+      String method,
+      String path,
+      Integer statusCode,
+      String correlationId,
+      String details) {
+    AuditRow row =
+        new AuditRow(
+            UUID.randomUUID(),
+            tenantId,
+            actorSub,
+            actorRoles,
+            actorPerms,
+            action,
+            resourceType,
+            resourceId,
+            method,
+            path,
+            statusCode,
+            correlationId,
+            details,
+            Instant.now());
+    if (accepting && queue.offer(row)) return;
+    if (enabled && DROPPABLE_ACTION.equals(action)) {
+      droppedCounter.increment();
+      return;
+    }
+    writer.insert(row);
+  }
+
+  private void runFlusher() {
+    List<AuditRow> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        fillBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        queue.drainTo(batch);
+        running = false;
+      }
+      if (!batch.isEmpty()) flush(batch);
+    }
+  }
+
+  private void fillBatch(List<AuditRow> batch) throws InterruptedException {
+    AuditRow first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+    if (first == null) return;
+    batch.add(first);
+    long deadline = System.nanoTime() + flushIntervalNanos;
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) return;
+      AuditRow next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) return;
+      batch.add(next);
+    }
+  }
+
+  private void flush(List<AuditRow> batch) {
+    try {
+      flushTimer.record(() -> writer.insertBatch(batch));
+    } catch (Exception e) {
+      droppedCounter.increment(batch.size());
+      log.error("Audit batch insert failed, dropped={} error={}", batch.size(), e.getMessage());
+    } finally {
+      batch.clear();
+    }
+  }
+}
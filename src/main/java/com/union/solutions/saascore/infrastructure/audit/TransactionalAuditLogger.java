@@ -0,0 +1,50 @@
+package com.union.solutions.saascore.infrastructure.audit;
+
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter;
+import com.union.solutions.saascore.application.abac.AuditLogger;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/** Escrita síncrona na transação corrente: a auditoria faz commit junto com a mutação. */
+@Component("transactionalAuditLogger")
+public class TransactionalAuditLogger implements AuditLogger {
+
+  private final AuditLogJdbcWriter writer;
+
+  public TransactionalAuditLogger(AuditLogJdbcWriter writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  public void log(
+      UUID tenantId,
+      String actorSub,
+      String actorRoles,
+      String actorPerms,
+      String action,
+      String resourceType,
+      String resourceId,
+      String method,
+      String path,
+      Integer statusCode,
+      String correlationId,
+      String details) {
+    writer.insert(
+        new AuditLogJdbcWriter.AuditRow(
+            UUID.randomUUID(),
+            tenantId,
+            actorSub,
+            actorRoles,
+            actorPerms,
+            action,
+            resourceType,
+            resourceId,
+            method,
+            path,
+            statusCode,
+            correlationId,
+            details,
+            Instant.now()));
+  }
+}
@@ -0,0 +1,81 @@
+package com.union.solutions.saascore.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.application.abac.PolicyIndexProvider;
+import com.union.solutions.saascore.application.flag.FeatureFlagEvaluator;
+import com.union.solutions.saascore.application.metrics.AggregateViewRefresher;
+import com.union.solutions.saascore.application.metrics.BusinessMetricsAggregator;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationListener implements MessageListener {
+
+  private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+  private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+  private final PolicyIndexProvider policyIndex;
+  private final FeatureFlagEvaluator flagEvaluator;
+  private final BusinessMetricsAggregator businessMetrics;
+  private final AggregateViewRefresher aggregateViews;
+  private final ObjectMapper objectMapper;
+
+  public CacheInvalidationListener(
+      PolicyIndexProvider policyIndex,
+      FeatureFlagEvaluator flagEvaluator,
+      BusinessMetricsAggregator businessMetrics,
+      AggregateViewRefresher aggregateViews,
+      ObjectMapper objectMapper) {
+    this.policyIndex = policyIndex;
+    this.flagEvaluator = flagEvaluator;
+    this.businessMetrics = businessMetrics;
+    this.aggregateViews = aggregateViews;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void onMessage(Message message) {
+    try {
+      JsonNode envelope =
+          objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+      JsonNode payload = envelope.path("payload");
+      switch (envelope.path("aggregateType").asText()) {
+        case "POLICY" -> {
+          UUID policyId = UUID.fromString(envelope.path("aggregateId").asText());
+          String permissionCode = payload.path("permissionCode").asText(null);
+          policyIndex.refreshPermission(policyId, permissionCode);
+          log.debug(
+              "Policy index invalidated policy_id={} permission_code={}", policyId, permissionCode);
+        }
+        case "FLAG" -> {
+          UUID tenantId = UUID.fromString(payload.path("tenantId").asText());
+          flagEvaluator.invalidate(tenantId);
+          aggregateViews.markDirty();
+          log.debug("Flag table invalidated tenant_id={}", tenantId);
+        }
+        case "TENANT" -> aggregateViews.markDirty();
+        default -> {}
+      }
+      Map<String, String> fields = objectMapper.convertValue(payload, PAYLOAD_TYPE);
+      String createdAt = envelope.path("createdAt").asText(null);
+      businessMetrics.apply(
+          envelope.path("eventType").asText(null),
+          createdAt != null ? Instant.parse(createdAt) : null,
+          fields);
+    } catch (Exception e) {
+      // O reconcile periódico cobre eventos perdidos ou malformados.
+      log.warn("Cache invalidation message ignored: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.union.solutions.saascore.infrastructure.cache;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cada réplica assina o exchange de eventos com uma fila exclusiva (auto-delete), para que todos os
+ * nós recebam todas as invalidações.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationRabbitConfig {
+
+  private final AnonymousQueue invalidationQueue =
+      new AnonymousQueue(new Base64UrlNamingStrategy("saas.cache.invalidation."));
+
+  @Value("${app.outbox.exchange:saas.events}")
+  private String exchangeName;
+
+  @Value("${app.outbox.routing-key-prefix:saas}")
+  private String routingKeyPrefix;
+
+  @Bean
+  public Declarables cacheInvalidationDeclarables() {
+    TopicExchange exchange = new TopicExchange(exchangeName, true, false);
+    return new Declarables(
+        exchange,
+        invalidationQueue,
+        BindingBuilder.bind(invalidationQueue).to(exchange).with(routingKeyPrefix + ".POLICY.#"),
+        BindingBuilder.bind(invalidationQueue).to(exchange).with(routingKeyPrefix + ".FLAG.#"),
+        BindingBuilder.bind(invalidationQueue).to(exchange).with(routingKeyPrefix + ".TENANT.#"));
+  }
+
+  @Bean
+  public SimpleMessageListenerContainer cacheInvalidationContainer(
+      ConnectionFactory connectionFactory, CacheInvalidationListener listener) {
+    SimpleMessageListenerContainer container =
+        new SimpleMessageListenerContainer(connectionFactory);
+    container.setQueueNames(invalidationQueue.getName());
+    container.setMessageListener(listener);
+    container.setMissingQueuesFatal(false);
+    return container;
+  }
+}
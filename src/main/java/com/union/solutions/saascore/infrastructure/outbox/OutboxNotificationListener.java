@@ -0,0 +1,111 @@
+package com.union.solutions.saascore.infrastructure.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém uma conexão em {@code LISTEN outbox_events} e acorda o dispatcher a cada commit que insere
+ * no outbox. Ao reconectar também acorda, cobrindo notificações perdidas. A conexão é própria, fora
+ * do pool do Hikari, para não tirar uma conexão das requisições.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.publish-enabled", havingValue = "true")
+public class OutboxNotificationListener {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+  private static final String CHANNEL = "outbox_events";
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final OutboxPublisher publisher;
+  private final boolean enabled;
+  private final long reconnectDelayMs;
+  private volatile boolean running;
+  private volatile Connection connection;
+  private Thread listener;
+
+  public OutboxNotificationListener(
+      @Value("${spring.datasource.url}") String url,
+      @Value("${spring.datasource.username}") String username,
+      @Value("${spring.datasource.password}") String password,
+      OutboxPublisher publisher,
+      @Value("${app.outbox.notify.enabled:true}") boolean enabled,
+      @Value("${app.outbox.notify.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.publisher = publisher;
+    this.enabled = enabled;
+    this.reconnectDelayMs = reconnectDelayMs;
+  }
+
+  @PostConstruct
+  void start() {
+    if (!enabled) return;
+    running = true;
+    listener = new Thread(this::run, "outbox-listener");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  @PreDestroy
+  void stop() {
+    running = false;
+    if (listener != null) listener.interrupt();
+    Connection conn = connection;
+    if (conn != null) {
+      try {
+        conn.close();
+      } catch (Exception e) {
+        log.debug("Outbox listener close failed: {}", e.getMessage());
+      }
+    }
+  }
+
+  private void run() {
+    while (running) {
+      try (Connection conn = DriverManager.getConnection(url, username, password)) {
+        connection = conn;
+        try (Statement st = conn.createStatement()) {
+          st.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        log.info("Outbox listener subscribed channel={}", CHANNEL);
+        publisher.wakeUp();
+        while (running) {
+          PGNotification[] notifications = pg.getNotifications(10_000);
+          if (notifications != null && notifications.length > 0) publisher.wakeUp();
+        }
+      } catch (Exception e) {
+        if (!running) return;
+        log.warn(
+            "Outbox listener disconnected, retrying in {} ms: {}",
+            reconnectDelayMs,
+            e.getMessage());
+        sleepQuietly();
+      } finally {
+        connection = null;
+      }
+    }
+  }
+
+  private void sleepQuietly() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.union.solutions.saascore.infrastructure.outbox;
+
+import com.union.solutions.saascore.adapters.out.persistence.OutboxPartitionJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxPartitionJdbcRepository.Partition;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mantém partições diárias de outbox_events à frente da data atual e remove (ou desanexa, para
+ * arquivamento) as que terminaram antes da retenção e só contêm linhas PUBLISHED. Cada partição é
+ * tratada em uma transação curta própria: o ACCESS EXCLUSIVE do DETACH bloqueia os INSERTs no
+ * outbox, então nenhuma varredura roda com ele seguro, e a falha de uma partição não desfaz as
+ * demais.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.retention.enabled", matchIfMissing = true)
+public class OutboxPartitionMaintainer {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxPartitionMaintainer.class);
+
+  private final OutboxPartitionJdbcRepository partitionRepo;
+  private final TransactionTemplate tx;
+  private final int premakeDays;
+  private final Duration retention;
+  private final boolean archive;
+  private final Duration lockTimeout;
+  private final AtomicLong defaultRows = new AtomicLong();
+
+  public OutboxPartitionMaintainer(
+      OutboxPartitionJdbcRepository partitionRepo,
+      TransactionTemplate tx,
+      MeterRegistry registry,
+      @Value("${app.outbox.retention.premake-days:3}") int premakeDays,
+      @Value("${app.outbox.retention.days:7}") int retentionDays,
+      @Value("${app.outbox.retention.mode:drop}") String mode,
+      @Value("${app.outbox.retention.lock-timeout-ms:5000}") long lockTimeoutMs) {
+    this.partitionRepo = partitionRepo;
+    this.tx = tx;
+    this.premakeDays = premakeDays;
+    this.retention = Duration.ofDays(retentionDays);
+    this.archive = "detach".equalsIgnoreCase(mode);
+    this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+    Gauge.builder("saas_outbox_default_partition_rows", defaultRows, AtomicLong::get)
+        .description("Outbox rows routed to the DEFAULT partition (no daily partition yet)")
+        .register(registry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    maintain();
+  }
+
+  @Scheduled(cron = "${app.outbox.retention.cron:0 15 * * * *}", zone = "UTC")
+  public void maintain() {
+    ensureAhead();
+    purgeExpired();
+  }
+
+  /** Dias à frente e dias que já têm linhas na default (premake atrasado). */
+  private void ensureAhead() {
+    Set<LocalDate> days = new TreeSet<>();
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    for (int i = 0; i <= premakeDays; i++) days.add(today.plusDays(i));
+    try {
+      days.addAll(partitionRepo.findDefaultPartitionDays());
+    } catch (Exception e) {
+      log.warn("Outbox default partition scan failed: {}", e.getMessage());
+    }
+    for (LocalDate day : days) {
+      String name = OutboxPartitionJdbcRepository.dailyPartitionName(day);
+      try {
+        if (partitionRepo.partitionExists(name)) continue;
+        Integer moved =
+            tx.execute(
+                status -> {
+                  if (!partitionRepo.tryMaintenanceLock()) return null;
+                  partitionRepo.setLockTimeout(lockTimeout);
+                  return partitionRepo.partitionExists(name)
+                      ? 0
+                      : partitionRepo.createDailyPartition(day);
+                });
+        if (moved != null && moved > 0) {
+          log.warn(
+              "Outbox partition created, moved rows out of default partition={} rows={}",
+              name,
+              moved);
+        }
+      } catch (Exception e) {
+        log.warn("Outbox partition create failed partition={} error={}", name, e.getMessage());
+      }
+    }
+    checkDefaultPartition();
+  }
+
+  private void checkDefaultPartition() {
+    try {
+      long rows = partitionRepo.countDefaultPartitionRows();
+      defaultRows.set(rows);
+      if (rows > 0) log.warn("Outbox default partition is not empty rows={}", rows);
+    } catch (Exception e) {
+      log.warn("Outbox default partition check failed: {}", e.getMessage());
+    }
+  }
+
+  private void purgeExpired() {
+    Instant cutoff = Instant.now().minus(retention);
+    List<Partition> partitions;
+    try {
+      partitions = partitionRepo.findBoundedPartitions();
+    } catch (Exception e) {
+      log.warn("Outbox partition listing failed: {}", e.getMessage());
+      return;
+    }
+    for (Partition p : partitions) {
+      if (!p.endsBefore(cutoff)) continue;
+      try {
+        purge(p);
+      } catch (Exception e) {
+        log.warn("Outbox partition purge failed partition={} error={}", p.name(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * A verificação de linhas pendentes roda antes e fora do lock; a partição já encerrou, então só
+   * recebe UPDATEs de linhas existentes. O DETACH é a única instrução da transação que segura o
+   * ACCESS EXCLUSIVE; o DROP vem depois, numa tabela já desanexada.
+   */
+  private void purge(Partition p) {
+    if (partitionRepo.hasUnpublishedRows(p.name())) {
+      log.warn("Outbox partition kept, has unpublished rows partition={}", p.name());
+      return;
+    }
+    Boolean detached =
+        tx.execute(
+            status -> {
+              if (!partitionRepo.tryMaintenanceLock()) return false;
+              partitionRepo.setLockTimeout(lockTimeout);
+              partitionRepo.detach(p.name());
+              return true;
+            });
+    if (!Boolean.TRUE.equals(detached)) return;
+    if (!archive) partitionRepo.drop(p.name());
+    log.info("Outbox partition purged partition={} archived={}", p.name(), archive);
+  }
+}
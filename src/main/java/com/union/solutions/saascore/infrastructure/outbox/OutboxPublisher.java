@@ -1,123 +1,302 @@
 package com.union.solutions.saascore.infrastructure.outbox;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.union.solutions.saascore.adapters.out.persistence.OutboxEventEntity;
-import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository.OutboxRecord;
 import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Dispatcher do outbox com N workers por nó. Cada worker arrenda um lote via {@code FOR UPDATE SKIP
+ * LOCKED} (commit imediato), publica fora de transação e repete até o outbox esvaziar. Com
+ * publisher confirms, o lote inteiro é enviado antes de aguardar os acks, e só as linhas
+ * confirmadas viram PUBLISHED.
+ */
 @Component
 @ConditionalOnProperty(name = "app.outbox.publish-enabled", havingValue = "true")
 public class OutboxPublisher {
 
   private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
 
-  private final OutboxEventJpaRepository outboxRepo;
+  private final OutboxEventJdbcRepository outboxRepo;
   private final RabbitTemplate rabbitTemplate;
   private final ObjectMapper objectMapper;
+  private final OutboxRetryPolicy retryPolicy;
   private final Counter publishedCounter;
   private final Counter failedCounter;
+  private final Counter unroutableCounter;
   private final int batchSize;
-  private final int retryMax;
   private final int lockTtlSeconds;
+  private final int workers;
+  private final Duration dispatchHorizon;
+  private final boolean publisherConfirms;
+  private final long confirmTimeoutNanos;
   private final String exchange;
   private final String routingKeyPrefix;
+  private final ExecutorService workerPool;
+  private final AtomicInteger activeWorkers = new AtomicInteger();
+  private final AtomicLong signals = new AtomicLong();
+  private final AtomicBoolean sweeping = new AtomicBoolean();
 
   public OutboxPublisher(
-      OutboxEventJpaRepository outboxRepo,
+      OutboxEventJdbcRepository outboxRepo,
       RabbitTemplate rabbitTemplate,
       ObjectMapper objectMapper,
+      OutboxRetryPolicy retryPolicy,
       @Qualifier("outboxPublishedCounter") Counter publishedCounter,
       @Qualifier("outboxFailedCounter") Counter failedCounter,
+      @Qualifier("outboxUnroutableCounter") Counter unroutableCounter,
       @Value("${app.outbox.batch-size:50}") int batchSize,
-      @Value("${app.outbox.retry-max:5}") int retryMax,
       @Value("${app.outbox.lock-ttl-seconds:60}") int lockTtlSeconds,
+      @Value("${app.outbox.workers:4}") int workers,
+      @Value("${app.outbox.dispatch-horizon-hours:24}") int dispatchHorizonHours,
+      @Value("${app.outbox.publisher-confirms:true}") boolean publisherConfirms,
+      @Value("${app.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs,
       @Value("${app.outbox.exchange:saas.events}") String exchange,
-      @Value("${app.outbox.routing-key-prefix:saas}") String routingKeyPrefix) {
+      @Value("${app.outbox.routing-key-prefix:saas}") String routingKeyPrefix,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
     this.outboxRepo = outboxRepo;
     this.rabbitTemplate = rabbitTemplate;
     this.objectMapper = objectMapper;
+    this.retryPolicy = retryPolicy;
     this.publishedCounter = publishedCounter;
     this.failedCounter = failedCounter;
+    this.unroutableCounter = unroutableCounter;
     this.batchSize = batchSize;
-    this.retryMax = retryMax;
     this.lockTtlSeconds = lockTtlSeconds;
+    this.workers = workers;
+    this.dispatchHorizon = Duration.ofHours(dispatchHorizonHours);
+    this.publisherConfirms = publisherConfirms;
+    this.confirmTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
     this.exchange = exchange;
     this.routingKeyPrefix = routingKeyPrefix;
+    // Workers passam a maior parte do tempo esperando confirms; com virtual threads não ocupam
+    // threads de plataforma.
+    AtomicInteger threadSeq = new AtomicInteger();
+    this.workerPool =
+        virtualThreads
+            ? Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("outbox-worker-", 1).factory())
+            : Executors.newFixedThreadPool(
+                workers, r -> new Thread(r, "outbox-worker-" + threadSeq.incrementAndGet()));
   }
 
-  @Scheduled(fixedDelayString = "${app.outbox.dispatch-interval-ms:5000}")
-  @Transactional
+  /** Sinal de novas linhas (NOTIFY); workers em andamento fazem mais uma rodada de claim. */
+  public void wakeUp() {
+    signals.incrementAndGet();
+    publishPending();
+  }
+
+  /** Rede de segurança: o caminho normal é {@link #wakeUp()}. */
+  @Scheduled(fixedDelayString = "${app.outbox.dispatch-interval-ms:30000}")
   public void publishPending() {
-    List<OutboxEventEntity> pending =
-        outboxRepo.findPendingReadyForDispatch(Instant.now(), PageRequest.of(0, batchSize));
-    for (OutboxEventEntity e : pending) {
-      publishOne(e);
+    if (workerPool.isShutdown()) return;
+    int active;
+    while ((active = activeWorkers.get()) < workers) {
+      if (activeWorkers.compareAndSet(active, active + 1)) {
+        workerPool.execute(this::drain);
+      }
+    }
+  }
+
+  /**
+   * Linhas PENDING anteriores ao horizonte de dispatch (ex.: broker fora por mais de um dia). Como
+   * o {@link #drain()}, repete até um lote incompleto, para esvaziar o atraso numa só rodada. Roda
+   * no pool dos workers: cada lote pode esperar confirms e não deve prender a thread do scheduler.
+   */
+  @Scheduled(
+      fixedDelayString = "${app.outbox.straggler-sweep-ms:600000}",
+      initialDelayString = "${app.outbox.straggler-sweep-ms:600000}")
+  public void sweepStragglers() {
+    if (workerPool.isShutdown() || !sweeping.compareAndSet(false, true)) return;
+    try {
+      workerPool.execute(this::drainStragglers);
+    } catch (RejectedExecutionException e) {
+      sweeping.set(false);
+    }
+  }
+
+  private void drainStragglers() {
+    try {
+      List<OutboxRecord> batch;
+      do {
+        Instant now = Instant.now();
+        batch =
+            outboxRepo.claimBatch(now, now.plusSeconds(lockTtlSeconds), Instant.EPOCH, batchSize);
+        publishBatch(batch);
+      } while (batch.size() == batchSize && !workerPool.isShutdown());
+    } catch (Exception e) {
+      log.warn("Outbox straggler sweep failed error={}", e.getMessage());
+    } finally {
+      sweeping.set(false);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    workerPool.shutdown();
+    workerPool.awaitTermination(lockTtlSeconds, TimeUnit.SECONDS);
+  }
+
+  private void drain() {
+    try {
+      List<OutboxRecord> batch;
+      long seen;
+      do {
+        seen = signals.get();
+        Instant now = Instant.now();
+        batch =
+            outboxRepo.claimBatch(
+                now, now.plusSeconds(lockTtlSeconds), now.minus(dispatchHorizon), batchSize);
+        publishBatch(batch);
+      } while ((batch.size() == batchSize || signals.get() != seen) && !workerPool.isShutdown());
+    } catch (Exception e) {
+      log.warn("Outbox worker stopped early error={}", e.getMessage());
+    } finally {
+      activeWorkers.decrementAndGet();
+    }
+  }
+
+  private void publishBatch(List<OutboxRecord> batch) {
+    List<OutboxRecord> published = new ArrayList<>(batch.size());
+    List<InFlight> inFlight = new ArrayList<>(batch.size());
+    for (OutboxRecord e : batch) {
+      try {
+        CorrelationData correlation =
+            publisherConfirms ? new CorrelationData(e.id().toString()) : null;
+        send(e, correlation);
+        if (correlation != null) {
+          inFlight.add(new InFlight(e, correlation));
+        } else {
+          published.add(e);
+          logPublished(e);
+        }
+      } catch (Exception ex) {
+        markFailedAttempt(e, ex.getMessage());
+      }
     }
+    awaitConfirms(inFlight, published);
+    outboxRepo.markPublished(published, Instant.now());
+    publishedCounter.increment(published.size());
   }
 
-  private void publishOne(OutboxEventEntity e) {
-    String routingKey = routingKeyPrefix + "." + e.getAggregateType() + "." + e.getEventType();
+  private void send(OutboxRecord e, CorrelationData correlation) throws Exception {
+    String routingKey = routingKeyPrefix + "." + e.aggregateType() + "." + e.eventType();
     Map<String, Object> envelope =
         Map.of(
-            "id", e.getId().toString(),
-            "aggregateType", e.getAggregateType(),
-            "aggregateId", e.getAggregateId(),
-            "eventType", e.getEventType(),
-            "payload", parsePayload(e.getPayload()),
-            "createdAt", e.getCreatedAt().toString());
+            "id", e.id().toString(),
+            "aggregateType", e.aggregateType(),
+            "aggregateId", e.aggregateId(),
+            "eventType", e.eventType(),
+            "payload", parsePayload(e.payload()),
+            "createdAt", e.createdAt().toString());
+    String body = objectMapper.writeValueAsString(envelope);
+    rabbitTemplate.convertAndSend(exchange, routingKey, body, correlation);
+  }
 
-    try {
-      String body = objectMapper.writeValueAsString(envelope);
-      rabbitTemplate.convertAndSend(exchange, routingKey, body);
-      e.setStatus("PUBLISHED");
-      e.setUpdatedAt(Instant.now());
-      outboxRepo.save(e);
-      publishedCounter.increment();
-      log.info(
-          "Outbox event published event_id={} aggregate_type={} event_type={} routing_key={}",
-          e.getId(),
-          e.getAggregateType(),
-          e.getEventType(),
-          routingKey);
-    } catch (Exception ex) {
-      int attempts = e.getAttempts() + 1;
-      e.setAttempts(attempts);
-      e.setUpdatedAt(Instant.now());
-      boolean isFinal = attempts >= retryMax;
-      e.setStatus(isFinal ? "FAILED" : "PENDING");
-      e.setNextAttemptAt(Instant.now().plusSeconds(lockTtlSeconds));
-      outboxRepo.save(e);
-      if (isFinal) {
-        failedCounter.increment();
-        log.error(
-            "Outbox event failed permanently event_id={} aggregate_type={} event_type={} attempts={} max_retries={} error={}",
-            e.getId(),
-            e.getAggregateType(),
-            e.getEventType(),
-            attempts,
-            retryMax,
-            ex.getMessage());
-      } else {
-        log.warn(
-            "Outbox event publish failed, will retry event_id={} attempt={} max_retries={} error={}",
-            e.getId(),
-            attempts,
-            retryMax,
-            ex.getMessage());
+  /** Os envios do lote já foram feitos; aqui só coletamos os acks, com um prazo único. */
+  private void awaitConfirms(List<InFlight> inFlight, List<OutboxRecord> published) {
+    long deadline = System.nanoTime() + confirmTimeoutNanos;
+    for (InFlight f : inFlight) {
+      String error;
+      try {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        CorrelationData.Confirm confirm =
+            f.correlation().getFuture().get(remaining, TimeUnit.NANOSECONDS);
+        ReturnedMessage returned = f.correlation().getReturned();
+        if (!confirm.isAck()) {
+          error = "nack: " + confirm.getReason();
+        } else {
+          if (returned != null) logUnroutable(f.record(), returned);
+          published.add(f.record());
+          logPublished(f.record());
+          continue;
+        }
+      } catch (TimeoutException ex) {
+        error = "confirm timeout";
+      } catch (ExecutionException ex) {
+        error = ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        error = "interrupted";
       }
+      markFailedAttempt(f.record(), error);
+    }
+  }
+
+  private void logPublished(OutboxRecord e) {
+    log.info(
+        "Outbox event published event_id={} aggregate_type={} event_type={} confirmed={}",
+        e.id(),
+        e.aggregateType(),
+        e.eventType(),
+        publisherConfirms);
+  }
+
+  /**
+   * Só ocorre com {@code spring.rabbitmq.template.mandatory=true}. Sem fila ligada à routing key o
+   * evento não tem consumidor (ex.: invalidação de cache desligada); reenviar não muda isso, então
+   * a linha segue como publicada e a devolução fica só no log e na métrica.
+   */
+  private void logUnroutable(OutboxRecord e, ReturnedMessage returned) {
+    unroutableCounter.increment();
+    log.warn(
+        "Outbox event returned unroutable event_id={} aggregate_type={} routing_key={} reply={}",
+        e.id(),
+        e.aggregateType(),
+        returned.getRoutingKey(),
+        returned.getReplyText());
+  }
+
+  private void markFailedAttempt(OutboxRecord e, String error) {
+    int attempts = e.attempts() + 1;
+    int maxAttempts = retryPolicy.maxAttempts(e.aggregateType());
+    Instant now = Instant.now();
+    if (attempts >= maxAttempts) {
+      outboxRepo.moveToDeadLetter(e.id(), e.createdAt(), attempts, error, now);
+      failedCounter.increment();
+      log.error(
+          "Outbox event dead-lettered event_id={} aggregate_type={} event_type={} attempts={} max_retries={} error={}",
+          e.id(),
+          e.aggregateType(),
+          e.eventType(),
+          attempts,
+          maxAttempts,
+          error);
+    } else {
+      Duration delay = retryPolicy.nextDelay(e.aggregateType(), attempts);
+      outboxRepo.markRetry(e.id(), e.createdAt(), attempts, now.plus(delay), now);
+      log.warn(
+          "Outbox event publish failed, will retry event_id={} attempt={} max_retries={} delay_ms={} error={}",
+          e.id(),
+          attempts,
+          maxAttempts,
+          delay.toMillis(),
+          error);
     }
   }
 
@@ -129,4 +308,6 @@ public class OutboxPublisher {
       return Map.of("raw", payload);
     }
   }
+
+  private record InFlight(OutboxRecord record, CorrelationData correlation) {}
 }
@@ -0,0 +1,41 @@
+package com.union.solutions.saascore.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Backoff exponencial com full jitter: atraso uniforme em [0, min(max, initial * mult^n)]. */
+@Component
+public class OutboxRetryPolicy {
+
+  private final OutboxRetryProperties props;
+  private final int defaultMaxAttempts;
+
+  public OutboxRetryPolicy(
+      OutboxRetryProperties props, @Value("${app.outbox.retry-max:5}") int defaultMaxAttempts) {
+    this.props = props;
+    this.defaultMaxAttempts = defaultMaxAttempts;
+  }
+
+  public int maxAttempts(String aggregateType) {
+    OutboxRetryProperties.Backoff o = props.aggregates().get(aggregateType);
+    return o != null && o.maxAttempts() != null ? o.maxAttempts() : defaultMaxAttempts;
+  }
+
+  /** Atraso antes da tentativa seguinte; {@code attempts} é o total de falhas já registradas. */
+  public Duration nextDelay(String aggregateType, int attempts) {
+    OutboxRetryProperties.Backoff o = props.aggregates().get(aggregateType);
+    Duration initial = props.initialDelay();
+    Duration max = props.maxDelay();
+    double multiplier = props.multiplier();
+    if (o != null) {
+      if (o.initialDelay() != null) initial = o.initialDelay();
+      if (o.maxDelay() != null) max = o.maxDelay();
+      if (o.multiplier() != null) multiplier = o.multiplier();
+    }
+    double exp = initial.toMillis() * Math.pow(multiplier, Math.max(0, attempts - 1));
+    double capMs = Math.min(max.toMillis(), exp);
+    return Duration.ofMillis((long) (ThreadLocalRandom.current().nextDouble() * capMs));
+  }
+}
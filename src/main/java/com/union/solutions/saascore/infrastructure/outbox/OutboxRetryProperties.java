@@ -0,0 +1,21 @@
+package com.union.solutions.saascore.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** {@code app.outbox.backoff}: defaults globais e overrides por aggregate type. */
+@ConfigurationProperties(prefix = "app.outbox.backoff")
+public record OutboxRetryProperties(
+    Duration initialDelay, Duration maxDelay, Double multiplier, Map<String, Backoff> aggregates) {
+
+  public OutboxRetryProperties {
+    if (initialDelay == null) initialDelay = Duration.ofSeconds(1);
+    if (maxDelay == null) maxDelay = Duration.ofMinutes(5);
+    if (multiplier == null) multiplier = 2.0;
+    aggregates = aggregates != null ? Map.copyOf(aggregates) : Map.of();
+  }
+
+  public record Backoff(
+      Duration initialDelay, Duration maxDelay, Double multiplier, Integer maxAttempts) {}
+}
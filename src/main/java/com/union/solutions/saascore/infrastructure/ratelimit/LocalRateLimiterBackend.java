@@ -0,0 +1,204 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limite por JVM (GCRA): por tenant, um {@code AtomicLongArray} com o TAT de cada classe de
+ * requisição, sem locks nem alocação no caminho quente. Buckets ociosos e já recarregados são
+ * removidos pelo sweep, então a memória acompanha os tenants ativos e não o total histórico. Usado
+ * sozinho com {@code app.rate-limit.backend=local} e como fallback do Redis.
+ */
+@Component
+public class LocalRateLimiterBackend implements RateLimiterBackend {
+
+  private static final Logger log = LoggerFactory.getLogger(LocalRateLimiterBackend.class);
+  private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+  private static final RequestClass[] CLASSES = RequestClass.values();
+
+  private final PlanLimits planLimits;
+  private final LongSupplier nanoClock;
+  private final long idleNanos;
+  private final int maxBuckets;
+  private final Map<String, PlanConfig[]> configs = new ConcurrentHashMap<>();
+  private final Map<UUID, Buckets> tenants = new ConcurrentHashMap<>();
+  private final Map<String, Buckets> anonymous = new ConcurrentHashMap<>();
+
+  @Autowired
+  public LocalRateLimiterBackend(
+      PlanLimits planLimits,
+      @Value("${app.rate-limit.local.idle-ttl-ms:300000}") long idleTtlMs,
+      @Value("${app.rate-limit.local.max-buckets:500000}") int maxBuckets) {
+    this(planLimits, System::nanoTime, idleTtlMs, maxBuckets);
+  }
+
+  public LocalRateLimiterBackend(
+      PlanLimits planLimits, LongSupplier nanoClock, long idleTtlMs, int maxBuckets) {
+    this.planLimits = planLimits;
+    this.nanoClock = nanoClock;
+    this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTtlMs);
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public RateLimitDecision tryAcquire(
+      UUID tenantId, String plan, RequestClass requestClass, int permits) {
+    PlanConfig config = configs(plan)[requestClass.ordinal()];
+    long now = nanoClock.getAsLong();
+    while (true) {
+      Buckets buckets = tenantId != null ? tenants.get(tenantId) : anonymous.get(config.plan);
+      if (buckets == null) buckets = register(tenantId, config.plan, now);
+      RateLimitDecision decision = buckets.tryAcquire(requestClass.ordinal(), config, permits, now);
+      if (decision != null) return decision;
+      // Bucket aposentado pelo sweep: o mapa já tem (ou terá em instantes) o sucessor.
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Remove buckets sem uso há {@code idle-ttl-ms} cujo TAT já passou (equivalem a um novo). */
+  @Scheduled(fixedDelayString = "${app.rate-limit.local.sweep-ms:60000}")
+  public void evictIdle() {
+    long now = nanoClock.getAsLong();
+    boolean overCapacity = tenants.size() > maxBuckets;
+    int evicted = evict(tenants, now, overCapacity) + evict(anonymous, now, false);
+    if (evicted > 0) log.debug("Rate limiter evicted idle buckets={} live={}", evicted, size());
+  }
+
+  public int size() {
+    return tenants.size() + anonymous.size();
+  }
+
+  /**
+   * Aposenta o bucket antes de tirá-lo do mapa: cada TAT vira {@link Buckets#RETIRED} de forma
+   * atômica, então um {@code tryAcquire} que já tinha a referência não consome num bucket órfão. Se
+   * algum consumo entrou entre a checagem e a aposentadoria, o bucket não estava mais cheio e é
+   * substituído por um sucessor com os mesmos TATs, em vez de removido.
+   */
+  private <K> int evict(Map<K, Buckets> buckets, long now, boolean overCapacity) {
+    int evicted = 0;
+    for (Map.Entry<K, Buckets> e : buckets.entrySet()) {
+      Buckets b = e.getValue();
+      boolean idle = now - b.lastSeenNanos > idleNanos;
+      if (!b.isFull(now) || !(idle || overCapacity)) continue;
+      Buckets successor = b.retire(now);
+      if (successor == null) {
+        buckets.remove(e.getKey(), b);
+        evicted++;
+      } else {
+        buckets.replace(e.getKey(), b, successor);
+      }
+    }
+    return evicted;
+  }
+
+  private Buckets register(UUID tenantId, String plan, long now) {
+    Buckets fresh = new Buckets(now);
+    Buckets existing =
+        tenantId != null
+            ? tenants.putIfAbsent(tenantId, fresh)
+            : anonymous.putIfAbsent(plan, fresh);
+    return existing != null ? existing : fresh;
+  }
+
+  private PlanConfig[] configs(String plan) {
+    PlanConfig[] byClass = configs.get(plan);
+    return byClass != null ? byClass : configs.computeIfAbsent(plan, this::newConfigs);
+  }
+
+  private PlanConfig[] newConfigs(String plan) {
+    PlanConfig[] byClass = new PlanConfig[CLASSES.length];
+    for (RequestClass c : CLASSES) {
+      byClass[c.ordinal()] = new PlanConfig(plan, planLimits.perMinute(plan, c));
+    }
+    return byClass;
+  }
+
+  private static final class PlanConfig {
+
+    final String plan;
+    final int limit;
+    final long emissionNanos;
+    final long burstNanos;
+
+    PlanConfig(String plan, int limit) {
+      this.plan = plan;
+      this.limit = Math.max(1, limit);
+      this.emissionNanos = Math.max(1, WINDOW_NANOS / this.limit);
+      this.burstNanos = emissionNanos * this.limit;
+    }
+  }
+
+  /** Theoretical arrival time por classe: instante em que o bucket estaria cheio de novo. */
+  private static final class Buckets {
+
+    static final long RETIRED = Long.MIN_VALUE;
+
+    final AtomicLongArray tat = new AtomicLongArray(CLASSES.length);
+    volatile long lastSeenNanos;
+
+    Buckets(long now) {
+      for (int i = 0; i < CLASSES.length; i++) tat.set(i, now);
+      this.lastSeenNanos = now;
+    }
+
+    private Buckets(long[] tats, long lastSeenNanos) {
+      for (int i = 0; i < tats.length; i++) tat.set(i, tats[i]);
+      this.lastSeenNanos = lastSeenNanos;
+    }
+
+    /** {@code null} se o bucket foi aposentado; o chamador busca o sucessor no mapa. */
+    RateLimitDecision tryAcquire(int slot, PlanConfig config, int permits, long now) {
+      lastSeenNanos = now;
+      // Custo acima do orçamento inteiro nunca passaria; limita ao burst.
+      long cost = config.emissionNanos * Math.min(permits, config.limit);
+      while (true) {
+        long current = tat.get(slot);
+        if (current == RETIRED) return null;
+        long base = current - now > 0 ? current : now;
+        long next = base + cost;
+        long debt = next - now;
+        if (debt > config.burstNanos) {
+          long retryNanos = debt - config.burstNanos;
+          return RateLimitDecision.rejected(
+              config.limit, TimeUnit.NANOSECONDS.toMillis(retryNanos));
+        }
+        if (tat.compareAndSet(slot, current, next)) {
+          long remaining = (config.burstNanos - debt) / config.emissionNanos;
+          return RateLimitDecision.allowed(config.limit, remaining);
+        }
+      }
+    }
+
+    /**
+     * Marca todos os slots como aposentados. Devolve {@code null} se estavam todos cheios (pode
+     * sair do mapa) ou um sucessor com os TATs capturados, se algum consumo entrou nesse meio
+     * tempo.
+     */
+    Buckets retire(long now) {
+      long[] previous = new long[CLASSES.length];
+      boolean full = true;
+      for (int i = 0; i < CLASSES.length; i++) {
+        previous[i] = tat.getAndSet(i, RETIRED);
+        if (previous[i] - now > 0) full = false;
+      }
+      return full ? null : new Buckets(previous, lastSeenNanos);
+    }
+
+    boolean isFull(long now) {
+      for (int i = 0; i < CLASSES.length; i++) {
+        if (tat.get(i) - now > 0) return false;
+      }
+      return true;
+    }
+  }
+}
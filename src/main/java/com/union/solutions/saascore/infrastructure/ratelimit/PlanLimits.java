@@ -0,0 +1,38 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Permits por minuto por plano e classe de requisição; planos desconhecidos usam o orçamento do
+ * free. As chaves {@code app.rate-limit.<plano>} continuam sendo o orçamento de leitura.
+ */
+@Component
+public class PlanLimits {
+
+  private final Map<String, int[]> perMinute;
+  private final int[] fallback;
+
+  public PlanLimits(
+      @Value("${app.rate-limit.free:60}") int freeRead,
+      @Value("${app.rate-limit.pro:300}") int proRead,
+      @Value("${app.rate-limit.enterprise:1000}") int enterpriseRead,
+      @Value("${app.rate-limit.write.free:30}") int freeWrite,
+      @Value("${app.rate-limit.write.pro:150}") int proWrite,
+      @Value("${app.rate-limit.write.enterprise:500}") int enterpriseWrite,
+      @Value("${app.rate-limit.heavy.free:30}") int freeHeavy,
+      @Value("${app.rate-limit.heavy.pro:150}") int proHeavy,
+      @Value("${app.rate-limit.heavy.enterprise:500}") int enterpriseHeavy) {
+    this.fallback = new int[] {freeRead, freeWrite, freeHeavy};
+    this.perMinute =
+        Map.of(
+            "free", fallback,
+            "pro", new int[] {proRead, proWrite, proHeavy},
+            "enterprise", new int[] {enterpriseRead, enterpriseWrite, enterpriseHeavy});
+  }
+
+  public int perMinute(String plan, RequestClass requestClass) {
+    return perMinute.getOrDefault(plan, fallback)[requestClass.ordinal()];
+  }
+}
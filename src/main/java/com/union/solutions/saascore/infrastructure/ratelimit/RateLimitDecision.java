@@ -0,0 +1,12 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long retryAfterMs) {
+
+  public static RateLimitDecision allowed(long limit, long remaining) {
+    return new RateLimitDecision(true, limit, Math.max(0, remaining), 0);
+  }
+
+  public static RateLimitDecision rejected(long limit, long retryAfterMs) {
+    return new RateLimitDecision(false, limit, 0, Math.max(0, retryAfterMs));
+  }
+}
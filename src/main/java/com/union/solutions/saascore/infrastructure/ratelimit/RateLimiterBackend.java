@@ -0,0 +1,12 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.UUID;
+
+public interface RateLimiterBackend {
+
+  /**
+   * Consome {@code permits} do orçamento da classe. {@code tenantId} nulo representa chamadas sem
+   * tenant no token.
+   */
+  RateLimitDecision tryAcquire(UUID tenantId, String plan, RequestClass requestClass, int permits);
+}
@@ -0,0 +1,170 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token bucket compartilhado entre réplicas via script Lua no Redis (uma ida atômica por recarga).
+ * Cada nó busca alguns tokens de uma vez e os consome localmente por até {@code lease-ms}; se o
+ * Redis falhar, usa o limitador local até o fim do cooldown.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(
+    name = "app.rate-limit.backend",
+    havingValue = "redis",
+    matchIfMissing = true)
+public class RedisRateLimiterBackend implements RateLimiterBackend {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisRateLimiterBackend.class);
+
+  private final StringRedisTemplate redis;
+  private final LocalRateLimiterBackend fallback;
+  private final PlanLimits planLimits;
+  private final DefaultRedisScript<List<Long>> script;
+  private final int prefetch;
+  private final long leaseNanos;
+  private final long cooldownNanos;
+  private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+  private volatile long redisDownUntil;
+
+  public RedisRateLimiterBackend(
+      StringRedisTemplate redis,
+      LocalRateLimiterBackend fallback,
+      PlanLimits planLimits,
+      @Value("${app.rate-limit.redis.prefetch:5}") int prefetch,
+      @Value("${app.rate-limit.redis.lease-ms:1000}") long leaseMs,
+      @Value("${app.rate-limit.redis.fallback-cooldown-ms:5000}") long cooldownMs) {
+    this.redis = redis;
+    this.fallback = fallback;
+    this.planLimits = planLimits;
+    this.prefetch = prefetch;
+    this.leaseNanos = leaseMs * 1_000_000L;
+    this.cooldownNanos = cooldownMs * 1_000_000L;
+    this.script = tokenBucketScript();
+  }
+
+  /** O Lua devolve uma lista de inteiros, que o Spring Data Redis entrega como {@code Long}. */
+  @SuppressWarnings("unchecked")
+  private static DefaultRedisScript<List<Long>> tokenBucketScript() {
+    DefaultRedisScript<List<Long>> script = new DefaultRedisScript<>();
+    script.setLocation(new ClassPathResource("redis/token_bucket.lua"));
+    script.setResultType((Class<List<Long>>) (Class<?>) List.class);
+    return script;
+  }
+
+  @Override
+  public RateLimitDecision tryAcquire(
+      UUID tenantId, String plan, RequestClass requestClass, int permits) {
+    long now = System.nanoTime();
+    if (now - redisDownUntil < 0) {
+      return fallback.tryAcquire(tenantId, plan, requestClass, permits);
+    }
+    int limit = planLimits.perMinute(plan, requestClass);
+    permits = Math.min(permits, limit);
+    String key =
+        "rl:"
+            + (tenantId != null ? tenantId : "anonymous")
+            + ":"
+            + plan
+            + ":"
+            + requestClass.policyName();
+
+    Lease lease = leases.get(key);
+    if (lease != null && lease.tryTake(permits, now)) {
+      return RateLimitDecision.allowed(limit, lease.remainingHint());
+    }
+    try {
+      return refill(key, limit, permits, now);
+    } catch (Exception e) {
+      redisDownUntil = now + cooldownNanos;
+      log.warn("Redis rate limiter unavailable, using local limiter: {}", e.getMessage());
+      return fallback.tryAcquire(tenantId, plan, requestClass, permits);
+    }
+  }
+
+  /** Leases expirados não guardam tokens úteis; remove para a tabela não crescer. */
+  @Scheduled(fixedDelayString = "${app.rate-limit.redis.lease-sweep-ms:60000}")
+  public void evictExpiredLeases() {
+    long now = System.nanoTime();
+    leases.values().removeIf(l -> l.isExpired(now));
+  }
+
+  private RateLimitDecision refill(String key, int limit, int permits, long now) {
+    // Prefetch proporcional ao limite, para não reter uma fração grande do bucket num só nó.
+    int batch = Math.max(permits, Math.min(prefetch, Math.max(1, limit / 20)));
+    double refillPerMs = limit / 60_000.0;
+    List<Long> result =
+        redis.execute(
+            script,
+            List.of(key),
+            String.valueOf(limit),
+            String.valueOf(refillPerMs),
+            String.valueOf(batch),
+            String.valueOf(permits));
+    long granted = result.get(0);
+    long remaining = result.get(1);
+    if (granted < permits) {
+      return RateLimitDecision.rejected(limit, result.get(2));
+    }
+    long extra = granted - permits;
+    if (extra > 0) {
+      // Uma recarga concorrente pode já ter publicado um lease: soma em vez de sobrescrever.
+      leases.merge(
+          key,
+          new Lease(extra, remaining, now + leaseNanos),
+          (previous, fresh) -> fresh.absorb(previous, now));
+    }
+    return RateLimitDecision.allowed(limit, remaining + extra);
+  }
+
+  private static final class Lease {
+
+    private final AtomicLong tokens;
+    private final long remoteRemaining;
+    private final long expiresAtNanos;
+
+    Lease(long tokens, long remoteRemaining, long expiresAtNanos) {
+      this.tokens = new AtomicLong(tokens);
+      this.remoteRemaining = remoteRemaining;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    boolean tryTake(int permits, long now) {
+      if (isExpired(now)) return false;
+      long current;
+      do {
+        current = tokens.get();
+        if (current < permits) return false;
+      } while (!tokens.compareAndSet(current, current - permits));
+      return true;
+    }
+
+    /** Transfere os tokens ainda válidos de {@code previous}; chamado antes de publicar o lease. */
+    Lease absorb(Lease previous, long now) {
+      if (!previous.isExpired(now)) tokens.addAndGet(previous.tokens.getAndSet(0));
+      return this;
+    }
+
+    boolean isExpired(long now) {
+      return now - expiresAtNanos >= 0;
+    }
+
+    long remainingHint() {
+      return remoteRemaining + tokens.get();
+    }
+  }
+}
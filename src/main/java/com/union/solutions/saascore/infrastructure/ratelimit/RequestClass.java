@@ -0,0 +1,16 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.Locale;
+
+/** Classe de custo da rota; cada plano tem um orçamento por classe. */
+public enum RequestClass {
+  READ,
+  WRITE,
+  HEAVY;
+
+  private final String policyName = name().toLowerCase(Locale.ROOT);
+
+  public String policyName() {
+    return policyName;
+  }
+}
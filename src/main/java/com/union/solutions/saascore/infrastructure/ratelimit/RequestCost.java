@@ -0,0 +1,7 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+public record RequestCost(RequestClass requestClass, int permits) {
+
+  public static final RequestCost READ = new RequestCost(RequestClass.READ, 1);
+  public static final RequestCost WRITE = new RequestCost(RequestClass.WRITE, 1);
+}
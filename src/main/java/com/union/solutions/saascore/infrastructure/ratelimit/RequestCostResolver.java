@@ -0,0 +1,51 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Resolve o custo da requisição pelas rotas configuradas; sem match, leituras (GET/HEAD) custam 1
+ * permit de READ e o resto 1 permit de WRITE.
+ */
+@Component
+public class RequestCostResolver {
+
+  private final List<CompiledRoute> routes;
+
+  public RequestCostResolver(RouteCostProperties properties) {
+    PathPatternParser parser = new PathPatternParser();
+    this.routes =
+        properties.routes().stream()
+            .map(
+                r ->
+                    new CompiledRoute(
+                        r.method() != null ? r.method().toUpperCase() : null,
+                        parser.parse(r.pattern()),
+                        new RequestCost(
+                            r.requestClass() != null ? r.requestClass() : RequestClass.READ,
+                            r.cost() != null ? Math.max(1, r.cost()) : 1)))
+            .toList();
+  }
+
+  public RequestCost resolve(HttpServletRequest request) {
+    String method = request.getMethod();
+    if (!routes.isEmpty()) {
+      PathContainer path = PathContainer.parsePath(request.getRequestURI());
+      for (CompiledRoute route : routes) {
+        if (route.matches(method, path)) return route.cost();
+      }
+    }
+    return "GET".equals(method) || "HEAD".equals(method) ? RequestCost.READ : RequestCost.WRITE;
+  }
+
+  private record CompiledRoute(String method, PathPattern pattern, RequestCost cost) {
+
+    boolean matches(String requestMethod, PathContainer path) {
+      return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+    }
+  }
+}
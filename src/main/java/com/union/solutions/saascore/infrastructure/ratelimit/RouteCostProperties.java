@@ -0,0 +1,16 @@
+package com.union.solutions.saascore.infrastructure.ratelimit;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** {@code app.rate-limit.routes}: custo e classe por rota; a primeira que casar vence. */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RouteCostProperties(List<Route> routes) {
+
+  public RouteCostProperties {
+    routes = routes != null ? List.copyOf(routes) : List.of();
+  }
+
+  /** {@code method} nulo casa com qualquer método. */
+  public record Route(String method, String pattern, RequestClass requestClass, Integer cost) {}
+}
@@ -0,0 +1,197 @@
+package com.union.solutions.saascore.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chaves JWKS do IdP em memória: carregadas no startup, renovadas em background e servidas do mapa
+ * atual enquanto a renovação roda. Um {@code kid} desconhecido agenda um refetch assíncrono (no
+ * máximo um por {@code min-refetch-interval-ms}); a requisição nunca espera o IdP.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.mode", havingValue = "oidc")
+public class JwksManager implements JWKSource<SecurityContext> {
+
+  private static final Logger log = LoggerFactory.getLogger(JwksManager.class);
+  private static final int MAX_JWKS_BYTES = 512 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final String jwkSetUri;
+  private final String issuerUri;
+  private final int timeoutMs;
+  private final long minRefetchIntervalMs;
+  private final LongSupplier clock;
+  private final ExecutorService refresher;
+  private final AtomicReference<JWKSet> keys = new AtomicReference<>(new JWKSet());
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile URI resolvedJwksUri;
+  private volatile long lastRefetchAt = Long.MIN_VALUE / 2;
+
+  @Autowired
+  public JwksManager(
+      ObjectMapper objectMapper,
+      @Value("${app.auth.oidc.jwk-set-uri:}") String jwkSetUri,
+      @Value("${app.auth.oidc.issuer-uri:}") String issuerUri,
+      @Value("${app.auth.oidc.jwks.timeout-ms:2000}") int timeoutMs,
+      @Value("${app.auth.oidc.jwks.min-refetch-interval-ms:30000}") long minRefetchIntervalMs) {
+    this(
+        objectMapper,
+        jwkSetUri,
+        issuerUri,
+        timeoutMs,
+        minRefetchIntervalMs,
+        System::currentTimeMillis,
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread t = new Thread(r, "jwks-refresher");
+              t.setDaemon(true);
+              return t;
+            }));
+    prefetch();
+  }
+
+  public JwksManager(
+      ObjectMapper objectMapper,
+      String jwkSetUri,
+      String issuerUri,
+      int timeoutMs,
+      long minRefetchIntervalMs,
+      LongSupplier clock,
+      ExecutorService refresher) {
+    if (isBlank(jwkSetUri) && isBlank(issuerUri)) {
+      throw new IllegalStateException(
+          "OIDC mode requires app.auth.oidc.jwk-set-uri or app.auth.oidc.issuer-uri. "
+              + "Example: OIDC_ISSUER_URI=https://keycloak.example.com/realms/saas");
+    }
+    this.objectMapper = objectMapper;
+    this.jwkSetUri = jwkSetUri;
+    this.issuerUri = issuerUri;
+    this.timeoutMs = timeoutMs;
+    this.minRefetchIntervalMs = minRefetchIntervalMs;
+    this.clock = clock;
+    this.refresher = refresher;
+  }
+
+  /** Falha no startup não derruba a aplicação: o refresh agendado tenta de novo. */
+  public void prefetch() {
+    if (!refresh()) log.warn("JWKS prefetch failed; tokens are rejected until keys load");
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.auth.oidc.jwks.refresh-ms:300000}",
+      initialDelayString = "${app.auth.oidc.jwks.refresh-ms:300000}")
+  public void scheduledRefresh() {
+    refresh();
+  }
+
+  @Override
+  public List<JWK> get(JWKSelector selector, SecurityContext context) {
+    JWKSet current = keys.get();
+    List<JWK> matches = selector.select(current);
+    if (matches.isEmpty()) requestRefetch(selector.getMatcher().getKeyIDs());
+    return matches;
+  }
+
+  public int keyCount() {
+    return keys.get().getKeys().size();
+  }
+
+  /** Busca síncrona; mantém as chaves anteriores se o IdP falhar ou devolver um set vazio. */
+  public boolean refresh() {
+    try {
+      JWKSet fetched = JWKSet.parse(read(jwksUri()));
+      if (fetched.getKeys().isEmpty()) {
+        log.warn("JWKS endpoint returned no keys; keeping {} cached keys", keyCount());
+        return false;
+      }
+      keys.set(fetched);
+      log.debug("JWKS refreshed keys={}", fetched.getKeys().size());
+      return true;
+    } catch (Exception e) {
+      log.warn("JWKS refresh failed, keeping {} cached keys: {}", keyCount(), e.getMessage());
+      return false;
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    refresher.shutdownNow();
+  }
+
+  private void requestRefetch(Set<String> kids) {
+    long now = clock.getAsLong();
+    if (now - lastRefetchAt < minRefetchIntervalMs) return;
+    if (!refreshing.compareAndSet(false, true)) return;
+    lastRefetchAt = now;
+    log.info("Unknown JWKS kid={}, scheduling refetch", kids);
+    try {
+      refresher.execute(
+          () -> {
+            try {
+              refresh();
+            } finally {
+              refreshing.set(false);
+            }
+          });
+    } catch (RuntimeException e) {
+      refreshing.set(false);
+    }
+  }
+
+  private URI jwksUri() throws IOException {
+    URI uri = resolvedJwksUri;
+    if (uri != null) return uri;
+    if (!isBlank(jwkSetUri)) {
+      uri = URI.create(jwkSetUri);
+    } else {
+      String base = issuerUri.endsWith("/") ? issuerUri : issuerUri + "/";
+      JsonNode discovery =
+          objectMapper.readTree(read(URI.create(base + ".well-known/openid-configuration")));
+      String discovered = discovery.path("jwks_uri").asText("");
+      if (discovered.isBlank()) throw new IOException("jwks_uri missing from OIDC discovery");
+      uri = URI.create(discovered);
+    }
+    resolvedJwksUri = uri;
+    return uri;
+  }
+
+  private String read(URI uri) throws IOException {
+    URLConnection connection = uri.toURL().openConnection();
+    connection.setConnectTimeout(timeoutMs);
+    connection.setReadTimeout(timeoutMs);
+    try (InputStream in = connection.getInputStream()) {
+      byte[] body = in.readNBytes(MAX_JWKS_BYTES + 1);
+      if (body.length > MAX_JWKS_BYTES) throw new IOException("JWKS response too large");
+      return new String(body, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
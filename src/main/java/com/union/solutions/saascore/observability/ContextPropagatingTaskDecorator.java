@@ -0,0 +1,17 @@
+package com.union.solutions.saascore.observability;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aplicado pelo Spring Boot aos executors auto-configurados ({@code @Async}, inclusive o de virtual
+ * threads): a tarefa roda com o contexto de quem a submeteu.
+ */
+@Component
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return ContextSnapshot.capture().wrap(runnable);
+  }
+}
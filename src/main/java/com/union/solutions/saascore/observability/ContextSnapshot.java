@@ -0,0 +1,99 @@
+package com.union.solutions.saascore.observability;
+
+import com.union.solutions.saascore.config.TenantContext;
+import io.opentelemetry.context.Context;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Estado da requisição que precisa atravessar threads: TenantContext, MDC (correlationId, tenantId,
+ * traceId), span OpenTelemetry e SecurityContext. Capturado na thread de origem e restaurado na
+ * thread que executa a tarefa, que volta ao estado anterior ao terminar.
+ */
+public final class ContextSnapshot {
+
+  private final TenantContext.Snapshot tenant;
+  private final Map<String, String> mdc;
+  private final Context otel;
+  private final SecurityContext security;
+
+  private ContextSnapshot(
+      TenantContext.Snapshot tenant,
+      Map<String, String> mdc,
+      Context otel,
+      SecurityContext security) {
+    this.tenant = tenant;
+    this.mdc = mdc;
+    this.otel = otel;
+    this.security = security;
+  }
+
+  public static ContextSnapshot capture() {
+    return new ContextSnapshot(
+        TenantContext.capture(),
+        MDC.getCopyOfContextMap(),
+        Context.current(),
+        SecurityContextHolder.getContext());
+  }
+
+  /** Executor que captura o contexto a cada {@code execute} (ex.: para CompletableFuture). */
+  public static Executor propagating(Executor delegate) {
+    return task -> delegate.execute(capture().wrap(task));
+  }
+
+  public Scope restore() {
+    TenantContext.Snapshot previousTenant = TenantContext.attach(tenant);
+    Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+    setMdc(mdc);
+    SecurityContext previousSecurity = SecurityContextHolder.getContext();
+    SecurityContextHolder.setContext(security);
+    io.opentelemetry.context.Scope otelScope = otel.makeCurrent();
+    return () -> {
+      otelScope.close();
+      SecurityContextHolder.setContext(previousSecurity);
+      setMdc(previousMdc);
+      TenantContext.attach(previousTenant);
+    };
+  }
+
+  public Runnable wrap(Runnable task) {
+    return () -> {
+      try (Scope ignored = restore()) {
+        task.run();
+      }
+    };
+  }
+
+  public <T> Callable<T> wrap(Callable<T> task) {
+    return () -> {
+      try (Scope ignored = restore()) {
+        return task.call();
+      }
+    };
+  }
+
+  public <T> Supplier<T> wrap(Supplier<T> task) {
+    return () -> {
+      try (Scope ignored = restore()) {
+        return task.get();
+      }
+    };
+  }
+
+  private static void setMdc(Map<String, String> values) {
+    if (values == null || values.isEmpty()) MDC.clear();
+    else MDC.setContextMap(values);
+  }
+
+  /** Fecha a restauração sem exceção checada. */
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
@@ -49,4 +49,18 @@ public class MetricsConfig {
         .description("Total outbox events failed after max retries")
         .register(registry);
   }
+
+  @Bean
+  public Counter outboxUnroutableCounter(MeterRegistry registry) {
+    return Counter.builder("saas_outbox_unroutable_total")
+        .description("Outbox events confirmed by the broker but returned with no matching queue")
+        .register(registry);
+  }
+
+  @Bean
+  public Counter auditDroppedCounter(MeterRegistry registry) {
+    return Counter.builder("saas_audit_dropped_total")
+        .description("Audit events dropped by the async writer (full buffer or failed flush)")
+        .register(registry);
+  }
 }
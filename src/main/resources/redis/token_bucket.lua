@@ -0,0 +1,33 @@
+-- Token bucket atômico. Concede até ARGV[3] tokens de uma vez (prefetch), desde que haja ao
+-- menos ARGV[4]. Usa o relógio do Redis para que todas as réplicas compartilhem a mesma base.
+-- Retorno: {concedidos, tokens restantes, retry_after_ms}
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refill_per_ms = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local minimum = tonumber(ARGV[4])
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+  tokens = capacity
+  ts = now
+end
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+
+local granted = 0
+local retry_after = 0
+if tokens >= minimum then
+  granted = math.min(requested, math.floor(tokens))
+  tokens = tokens - granted
+else
+  retry_after = math.ceil((minimum - tokens) / refill_per_ms)
+end
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', key, math.ceil(capacity / refill_per_ms) + 1000)
+return {granted, math.floor(tokens), retry_after}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.union.solutions.saascore.application.port.TokenIssuer;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -272,7 +273,7 @@ class Phase1IntegrationTest {
 
     MvcResult auditResult =
         mvc.perform(
-                get("/v1/audit?action=ACCESS_DENIED")
+                get("/v1/audit?action=ACCESS_DENIED&count=exact")
                     .header("Authorization", "Bearer " + adminToken))
             .andExpect(status().isOk())
             .andReturn();
@@ -313,6 +314,21 @@ class Phase1IntegrationTest {
     assertThat(body.has("tenants_by_plan")).isTrue();
   }
 
+  @Test
+  void businessMetrics_activeFlagsByTenantReadsMaterializedView() throws Exception {
+    mvc.perform(
+            get("/v1/metrics/business/tenants/00000000-0000-0000-0000-000000000002/flags")
+                .header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.plan").value("pro"))
+        .andExpect(jsonPath("$.active_flags").isNumber());
+
+    mvc.perform(
+            get("/v1/metrics/business/tenants/" + UUID.randomUUID() + "/flags")
+                .header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   void tenantSnapshot_returnsData() throws Exception {
     String tenantId = "00000000-0000-0000-0000-000000000002";
@@ -334,6 +350,33 @@ class Phase1IntegrationTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  void tenantSnapshot_includeReturnsOneDocument_andRevalidatesWithEtag() throws Exception {
+    String tenantId = "00000000-0000-0000-0000-000000000002";
+    MvcResult result =
+        mvc.perform(
+                get("/v1/tenants/" + tenantId + "/snapshot?include=policies,flags")
+                    .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.plan").value("pro"))
+            .andExpect(jsonPath("$.policies").isArray())
+            .andExpect(jsonPath("$.flags").isArray())
+            .andReturn();
+    String etag = result.getResponse().getHeader("ETag");
+    assertThat(etag).isNotBlank();
+
+    mvc.perform(
+            get("/v1/tenants/" + tenantId + "/snapshot?include=policies,flags")
+                .header("Authorization", "Bearer " + adminToken)
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+
+    mvc.perform(
+            get("/v1/tenants/" + tenantId + "/snapshot?include=secrets")
+                .header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void cursorPagination_tenantsEndpoint() throws Exception {
     for (int i = 0; i < 3; i++) {
@@ -420,6 +463,27 @@ class Phase1IntegrationTest {
     }
   }
 
+  @Test
+  void listEndpoints_skipCountUnlessRequested() throws Exception {
+    mvc.perform(get("/v1/tenants?size=1").header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").isArray())
+        .andExpect(jsonPath("$.last").isBoolean())
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+    mvc.perform(get("/v1/policies?count=estimate").header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.count").value("estimate"))
+        .andExpect(jsonPath("$.totalElements").isNumber());
+
+    mvc.perform(get("/v1/audit?count=exact").header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").isNumber());
+
+    mvc.perform(get("/v1/tenants?count=all").header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void auditLog_filtersWork() throws Exception {
     mvc.perform(
@@ -428,6 +492,28 @@ class Phase1IntegrationTest {
         .andExpect(jsonPath("$.content").isArray());
   }
 
+  @Test
+  void auditExport_streamsCsvWithFilters() throws Exception {
+    MvcResult pending =
+        mvc.perform(
+                get("/v1/audit/export?format=csv&actorSub=admin@test")
+                    .header("Authorization", "Bearer " + adminToken))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    String body =
+        mvc.perform(asyncDispatch(pending))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    assertThat(body).startsWith("id,tenant_id,actor_sub,");
+
+    mvc.perform(get("/v1/audit/export?format=xml").header("Authorization", "Bearer " + adminToken))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void rateLimitHeaders_arePresent() throws Exception {
     MvcResult result =
@@ -0,0 +1,52 @@
+package com.union.solutions.saascore.unit.adapters.in.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.adapters.in.auth.AuthorityRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+class AuthorityRegistryTest {
+
+  private final AuthorityRegistry registry = new AuthorityRegistry(2);
+
+  @Test
+  void sameCombination_returnsSameInstance() {
+    AuthorityRegistry.AuthoritySet first =
+        registry.resolve(new ArrayList<>(List.of("admin")), List.of("tenants:read"));
+    AuthorityRegistry.AuthoritySet second =
+        registry.resolve(List.of("admin"), new ArrayList<>(List.of("tenants:read")));
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.authorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_admin", "tenants:read");
+  }
+
+  @Test
+  void authorities_areSharedAcrossSets() {
+    GrantedAuthority a = registry.resolve(List.of("admin"), List.of()).authorities().get(0);
+    GrantedAuthority b =
+        registry.resolve(List.of("admin"), List.of("flags:read")).authorities().get(0);
+    assertThat(b).isSameAs(a);
+  }
+
+  @Test
+  void beyondMaxSize_buildsWithoutCaching() {
+    registry.resolve(List.of("a"), List.of());
+    registry.resolve(List.of("b"), List.of());
+    AuthorityRegistry.AuthoritySet extra = registry.resolve(List.of("c"), List.of());
+
+    assertThat(registry.size()).isEqualTo(2);
+    assertThat(extra.roles()).containsExactly("c");
+  }
+
+  @Test
+  void nullLists_areTreatedAsEmpty() {
+    AuthorityRegistry.AuthoritySet set = registry.resolve(null, null);
+    assertThat(set.authorities()).isEmpty();
+    assertThat(set).isSameAs(registry.resolve(List.of(), List.of()));
+  }
+}
@@ -0,0 +1,99 @@
+package com.union.solutions.saascore.unit.adapters.in.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.union.solutions.saascore.adapters.in.auth.TokenClaims;
+import com.union.solutions.saascore.adapters.in.auth.TokenParser;
+import com.union.solutions.saascore.adapters.in.auth.VerifiedTokenCache;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final TokenParser parser = mock(TokenParser.class);
+
+  @Test
+  void repeatedToken_isVerifiedOnce() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, fixed(NOW));
+    when(parser.parse("t1")).thenReturn(Optional.of(claims(NOW.plusSeconds(3600))));
+
+    assertThat(cache.parse("t1", parser)).isPresent();
+    assertThat(cache.parse("t1", parser)).isPresent();
+
+    verify(parser, times(1)).parse("t1");
+  }
+
+  @Test
+  void entry_isDroppedAtExp() {
+    Clock clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(NOW.toEpochMilli());
+    VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, clock);
+    when(parser.parse("t1")).thenReturn(Optional.of(claims(NOW.plusSeconds(60))));
+    cache.parse("t1", parser);
+
+    when(clock.millis()).thenReturn(NOW.plusSeconds(60).toEpochMilli());
+    when(parser.parse("t1")).thenReturn(Optional.empty());
+
+    assertThat(cache.parse("t1", parser)).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void invalidOrExpLessTokens_areNotCached() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, fixed(NOW));
+    when(parser.parse("bad")).thenReturn(Optional.empty());
+    when(parser.parse("no-exp")).thenReturn(Optional.of(claims(null)));
+
+    cache.parse("bad", parser);
+    cache.parse("no-exp", parser);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void size_isBounded() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(true, 2, fixed(NOW));
+    for (String t : List.of("a", "b", "c", "d")) {
+      when(parser.parse(t)).thenReturn(Optional.of(claims(NOW.plusSeconds(3600))));
+      cache.parse(t, parser);
+    }
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void full_evictsABatchWithoutSweepingOnTheRequestPath() {
+    Clock clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(NOW.toEpochMilli());
+    VerifiedTokenCache cache = new VerifiedTokenCache(true, 20, clock);
+    for (int i = 0; i < 20; i++) {
+      when(parser.parse("t" + i)).thenReturn(Optional.of(claims(NOW.plusSeconds(60))));
+      cache.parse("t" + i, parser);
+    }
+
+    when(clock.millis()).thenReturn(NOW.plusSeconds(120).toEpochMilli());
+    when(parser.parse("fresh")).thenReturn(Optional.of(claims(NOW.plusSeconds(3600))));
+    cache.parse("fresh", parser);
+
+    assertThat(cache.size()).isEqualTo(19);
+    cache.evictExpired();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  private static TokenClaims claims(Instant exp) {
+    return new TokenClaims("u", null, List.of("admin"), List.of(), "pro", "us-east-1", exp);
+  }
+
+  private static Clock fixed(Instant instant) {
+    return Clock.fixed(instant, ZoneOffset.UTC);
+  }
+}
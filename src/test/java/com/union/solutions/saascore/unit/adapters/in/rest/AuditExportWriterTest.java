@@ -0,0 +1,79 @@
+package com.union.solutions.saascore.unit.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.in.rest.AuditExportWriter;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AuditExportWriterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Test
+  void ndjson_writesOneObjectPerLine() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    AuditExportWriter writer =
+        new AuditExportWriter(AuditExportWriter.Format.NDJSON, out, objectMapper);
+
+    writer.writeHeader();
+    writer.write(row("TENANT_CREATED", "{\"name\":\"Acme\"}"));
+    writer.write(row("ACCESS_DENIED", null));
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertThat(first.get("action").asText()).isEqualTo("TENANT_CREATED");
+    assertThat(objectMapper.readTree(lines[1]).get("action").asText()).isEqualTo("ACCESS_DENIED");
+  }
+
+  @Test
+  void csv_writesHeaderAndQuotesSpecialCharacters() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    AuditExportWriter writer =
+        new AuditExportWriter(AuditExportWriter.Format.CSV, out, objectMapper);
+
+    writer.writeHeader();
+    writer.write(row("TENANT_CREATED", "{\"name\":\"Acme, Inc\"}"));
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("id,tenant_id,actor_sub,").endsWith(",details,created_at");
+    assertThat(lines[1])
+        .contains(",TENANT_CREATED,")
+        .contains(",\"{\"\"name\"\":\"\"Acme, Inc\"\"}\",")
+        .endsWith(",2026-03-01T10:15:30Z");
+  }
+
+  @Test
+  void format_parseIsCaseInsensitiveAndRejectsUnknown() {
+    assertThat(AuditExportWriter.Format.parse("CSV")).isEqualTo(AuditExportWriter.Format.CSV);
+    assertThatThrownBy(() -> AuditExportWriter.Format.parse("xlsx"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static AuditRow row(String action, String details) {
+    return new AuditRow(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        "admin@test",
+        "admin",
+        null,
+        action,
+        "Tenant",
+        "t-1",
+        "POST",
+        "/v1/tenants",
+        201,
+        "corr-1",
+        details,
+        Instant.parse("2026-03-01T10:15:30Z"));
+  }
+}
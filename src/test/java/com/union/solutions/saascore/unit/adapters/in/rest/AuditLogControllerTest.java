@@ -0,0 +1,63 @@
+package com.union.solutions.saascore.unit.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.in.rest.AuditLogController;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogQueryJdbcRepository;
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogControllerTest {
+
+  @Mock AuditLogJpaRepository auditRepo;
+  @Mock AuditLogQueryJdbcRepository queryRepo;
+
+  @Test
+  void export_rejectsBeyondTheConcurrencyCapUntilAStreamFinishes() throws Exception {
+    AuditLogController controller =
+        new AuditLogController(auditRepo, queryRepo, new ObjectMapper(), 1);
+
+    ResponseEntity<?> first = export(controller);
+    ResponseEntity<?> second = export(controller);
+
+    assertThat(first.getStatusCode().value()).isEqualTo(200);
+    assertThat(second.getStatusCode().value()).isEqualTo(503);
+    assertThat(second.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+
+    ((StreamingResponseBody) first.getBody()).writeTo(new ByteArrayOutputStream());
+
+    verify(queryRepo).forEach(any(), any());
+    assertThat(export(controller).getStatusCode().value()).isEqualTo(200);
+  }
+
+  @Test
+  void export_releasesTheSlotWhenTheStreamFails() throws Exception {
+    AuditLogController controller =
+        new AuditLogController(auditRepo, queryRepo, new ObjectMapper(), 1);
+    doThrow(new IllegalStateException("connection reset")).when(queryRepo).forEach(any(), any());
+
+    StreamingResponseBody body = (StreamingResponseBody) export(controller).getBody();
+    assertThatThrownBy(() -> body.writeTo(new ByteArrayOutputStream()))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(export(controller).getStatusCode().value()).isEqualTo(200);
+  }
+
+  private static ResponseEntity<?> export(AuditLogController controller) {
+    return controller.export(
+        null, null, null, null, null, null, "ndjson", false, new MockHttpServletRequest());
+  }
+}
@@ -0,0 +1,75 @@
+package com.union.solutions.saascore.unit.adapters.in.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.union.solutions.saascore.adapters.in.rest.CursorPage;
+import com.union.solutions.saascore.adapters.in.rest.KeysetCursor;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  private static final Instant T = Instant.parse("2026-03-01T10:15:30.123456Z");
+
+  @Test
+  void encodeDecode_roundTripsTimestampAndId() {
+    KeysetCursor cursor = new KeysetCursor(T, UUID.randomUUID());
+
+    assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void decode_acceptsLegacyInstantCursorWithoutId() {
+    String legacy =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("1970-01-01T00:00:00Z".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(KeysetCursor.decode(legacy)).isEqualTo(new KeysetCursor(Instant.EPOCH, null));
+  }
+
+  @Test
+  void decode_rejectsGarbage() {
+    assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+        .isInstanceOf(IllegalArgumentException.class);
+    String badV1 = Base64.getUrlEncoder().encodeToString("v1|2026-03-01T00:00:00Z|nope".getBytes());
+    assertThatThrownBy(() -> KeysetCursor.decode(badV1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void page_usesExtraRowForHasMoreAndCursorFromLastItem() {
+    List<KeysetCursor> rows =
+        List.of(
+            new KeysetCursor(T, new UUID(0, 1)),
+            new KeysetCursor(T, new UUID(0, 2)),
+            new KeysetCursor(T, new UUID(0, 3)));
+
+    CursorPage<KeysetCursor> page = KeysetCursor.page(rows, 2, r -> r);
+
+    assertThat(page.items()).hasSize(2);
+    assertThat(page.hasMore()).isTrue();
+    assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(rows.get(1));
+  }
+
+  @Test
+  void page_lastPageHasNoCursor() {
+    CursorPage<KeysetCursor> page =
+        KeysetCursor.page(List.of(new KeysetCursor(T, new UUID(0, 1))), 2, r -> r);
+
+    assertThat(page.hasMore()).isFalse();
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void fetchSize_requestsOneExtraRowAndRejectsNonPositiveLimits() {
+    assertThat(KeysetCursor.fetchSize(20)).isEqualTo(21);
+    assertThatThrownBy(() -> KeysetCursor.fetchSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,89 @@
+package com.union.solutions.saascore.unit.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter.AuditRow;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogQueryJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogQueryJdbcRepository.AuditFilter;
+import com.union.solutions.saascore.adapters.out.persistence.RowCountEstimator;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class AuditLogQueryJdbcRepositoryTest {
+
+  private static final Instant T0 = Instant.parse("2026-03-01T00:00:00Z");
+
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final PreparedStatement ps = mock(PreparedStatement.class);
+  private final ResultSet rs = mock(ResultSet.class);
+  private final List<UUID> ids = new ArrayList<>();
+  private final AtomicInteger fetchSize = new AtomicInteger(-1);
+  private final AtomicInteger roundTrips = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(ps);
+    when(ps.executeQuery()).thenReturn(rs);
+    doAnswer(inv -> fetchSize.getAndSet(inv.getArgument(0))).when(ps).setFetchSize(anyInt());
+    for (int i = 0; i < 5; i++) ids.add(UUID.randomUUID());
+    serveInBatches();
+  }
+
+  @Test
+  void forEach_streamsEveryRowAcrossFetchBatches() throws Exception {
+    AuditLogQueryJdbcRepository repo =
+        new AuditLogQueryJdbcRepository(
+            new JdbcTemplate(dataSource), mock(RowCountEstimator.class), 2);
+    List<AuditRow> seen = new ArrayList<>();
+
+    repo.forEach(new AuditFilter(null, "ACCESS_DENIED", null, null, null, null), seen::add);
+
+    assertThat(seen).extracting(AuditRow::id).containsExactlyElementsOf(ids);
+    assertThat(seen.get(4).createdAt()).isEqualTo(T0.plusSeconds(4));
+    assertThat(fetchSize.get()).isEqualTo(2);
+    assertThat(roundTrips.get()).isEqualTo(3);
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(connection).prepareStatement(sql.capture());
+    assertThat(sql.getValue()).endsWith(" WHERE action = ? ORDER BY created_at, id");
+    verify(ps).setString(1, "ACCESS_DENIED");
+    verify(rs).close();
+  }
+
+  /** Simula o cursor do servidor: a cada lote esgotado, busca mais {@code fetchSize} linhas. */
+  private void serveInBatches() throws Exception {
+    AtomicInteger position = new AtomicInteger(-1);
+    AtomicInteger buffered = new AtomicInteger();
+    when(rs.next())
+        .thenAnswer(
+            inv -> {
+              if (position.get() + 1 >= ids.size()) return false;
+              if (buffered.get() == 0) {
+                roundTrips.incrementAndGet();
+                buffered.set(Math.min(fetchSize.get(), ids.size() - position.get() - 1));
+              }
+              buffered.decrementAndGet();
+              position.incrementAndGet();
+              return true;
+            });
+    when(rs.getObject("id", UUID.class)).thenAnswer(inv -> ids.get(position.get()));
+    when(rs.getString("action")).thenReturn("ACCESS_DENIED");
+    when(rs.getTimestamp("created_at"))
+        .thenAnswer(inv -> Timestamp.from(T0.plusSeconds(position.get())));
+  }
+}
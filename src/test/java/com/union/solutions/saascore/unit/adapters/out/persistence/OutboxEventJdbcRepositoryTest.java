@@ -0,0 +1,60 @@
+package com.union.solutions.saascore.unit.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository.OutboxRecord;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class OutboxEventJdbcRepositoryTest {
+
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final PreparedStatement ps = mock(PreparedStatement.class);
+
+  @Test
+  void markPublished_pairsEachIdWithItsUtcCreatedAt() throws Exception {
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(ps);
+    when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+    OutboxRecord first = record(Instant.parse("2026-11-01T05:30:00.123456Z"));
+    OutboxRecord second = record(Instant.parse("2026-11-01T06:30:00Z"));
+
+    new OutboxEventJdbcRepository(new JdbcTemplate(dataSource))
+        .markPublished(List.of(first, second), Instant.now());
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(connection).prepareStatement(sql.capture());
+    assertThat(sql.getValue())
+        .contains("unnest(?::uuid[], ?::timestamptz[])")
+        .contains("o.id = k.id AND o.created_at = k.created_at");
+    verify(connection).createArrayOf("uuid", new Object[] {first.id(), second.id()});
+    verify(connection)
+        .createArrayOf(
+            "text", new Object[] {"2026-11-01T05:30:00.123456Z", "2026-11-01T06:30:00Z"});
+  }
+
+  @Test
+  void markPublished_skipsEmptyBatches() throws Exception {
+    new OutboxEventJdbcRepository(new JdbcTemplate(dataSource))
+        .markPublished(List.of(), Instant.now());
+
+    verifyNoInteractions(dataSource);
+  }
+
+  private static OutboxRecord record(Instant createdAt) {
+    return new OutboxRecord(
+        UUID.randomUUID(), "TENANT", "t-1", "tenant.created", "{}", createdAt, 0);
+  }
+}
@@ -0,0 +1,42 @@
+package com.union.solutions.saascore.unit.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.union.solutions.saascore.adapters.out.persistence.SqlFilter;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class SqlFilterTest {
+
+  @Test
+  void and_skipsConditionsWithNullValues() {
+    SqlFilter filter =
+        new SqlFilter().and("plan = ?", "pro").and("region = ?", (Object) null).and("a > b");
+
+    assertThat(filter.sql()).isEqualTo(" WHERE plan = ? AND a > b");
+    assertThat(filter.args(10)).containsExactly("pro", 10);
+  }
+
+  @Test
+  void and_withoutAnyConditionIsEmpty() {
+    SqlFilter filter = new SqlFilter().and("plan = ?", (Object) null);
+
+    assertThat(filter.isEmpty()).isTrue();
+    assertThat(filter.sql()).isEmpty();
+  }
+
+  @Test
+  void orderBy_mapsWhitelistedPropertiesAndBreaksTiesById() {
+    Map<String, String> columns = Map.of("createdAt", "created_at", "name", "name");
+
+    assertThat(SqlFilter.orderBy(Sort.unsorted(), columns, "created_at DESC, id DESC"))
+        .isEqualTo(" ORDER BY created_at DESC, id DESC");
+    Sort sort = Sort.by("name").and(Sort.by("createdAt").descending());
+    assertThat(SqlFilter.orderBy(sort, columns, ""))
+        .isEqualTo(" ORDER BY name ASC, created_at DESC, id");
+    assertThatThrownBy(() -> SqlFilter.orderBy(Sort.by("password"), columns, ""))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -3,11 +3,20 @@ package com.union.solutions.saascore.unit.application.abac;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.union.solutions.saascore.application.abac.AbacContext;
+import com.union.solutions.saascore.config.RequestPrincipal;
+import com.union.solutions.saascore.config.TenantContext;
+import java.util.List;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 class AbacContextTest {
 
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
   @Test
   void record_preservesValues() {
     UUID tenantId = UUID.randomUUID();
@@ -20,4 +29,27 @@ class AbacContextTest {
     assertThat(ctx.region()).isEqualTo("us-east-1");
     assertThat(ctx.correlationId()).isEqualTo("corr-1");
   }
+
+  @Test
+  void fromCurrentContext_readsThePrincipalSetForTheRequest() {
+    UUID tenantId = UUID.randomUUID();
+    TenantContext.setCorrelationId("corr-2");
+    TenantContext.setPrincipal(
+        new RequestPrincipal("svc", tenantId, "enterprise", "eu-west-1", List.of(), List.of()));
+
+    AbacContext ctx = AbacContext.fromCurrentContext("policies:read");
+
+    assertThat(ctx)
+        .isEqualTo(
+            new AbacContext(tenantId, "svc", "policies:read", "enterprise", "eu-west-1", "corr-2"));
+  }
+
+  @Test
+  void fromCurrentContext_defaultsPlanAndRegionToEmpty() {
+    AbacContext ctx = AbacContext.fromCurrentContext("tenants:read");
+
+    assertThat(ctx.tenantId()).isNull();
+    assertThat(ctx.plan()).isEmpty();
+    assertThat(ctx.region()).isEmpty();
+  }
 }
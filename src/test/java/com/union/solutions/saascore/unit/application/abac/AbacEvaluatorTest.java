@@ -4,16 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyChangeJdbcRepository;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
 import com.union.solutions.saascore.application.abac.AbacContext;
 import com.union.solutions.saascore.application.abac.AbacEvaluator;
 import com.union.solutions.saascore.application.abac.AbacResult;
 import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.application.abac.PolicyIndexProvider;
 import com.union.solutions.saascore.domain.Policy;
 import io.micrometer.core.instrument.Counter;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,19 +28,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class AbacEvaluatorTest {
 
   @Mock PolicyJpaRepository policyRepo;
+  @Mock PolicyChangeJdbcRepository changeRepo;
   @Mock AuditLogger auditLogger;
   @Mock Counter accessDeniedCounter;
 
+  private PolicyIndexProvider indexProvider;
   private AbacEvaluator evaluator;
 
   @BeforeEach
   void setUp() {
-    evaluator = new AbacEvaluator(policyRepo, auditLogger, new ObjectMapper(), accessDeniedCounter);
+    ObjectMapper objectMapper = new ObjectMapper();
+    indexProvider = new PolicyIndexProvider(policyRepo, changeRepo, objectMapper, 30000);
+    evaluator = new AbacEvaluator(indexProvider, auditLogger, objectMapper, accessDeniedCounter);
   }
 
   @Test
   void evaluate_noPolicies_returnsDeny_defaultDeny() {
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of());
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of());
     AbacContext ctx =
         new AbacContext(
             UUID.randomUUID(), "user@test", "admin:write", "pro", "us-east-1", "corr-1");
@@ -52,7 +59,7 @@ class AbacEvaluatorTest {
     UUID policyId = UUID.randomUUID();
     PolicyEntity deny =
         makePolicyEntity(policyId, "admin:write", Policy.Effect.DENY, "[\"free\"]", "[]");
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of(deny));
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(deny));
 
     AbacContext ctx =
         new AbacContext(
@@ -71,8 +78,7 @@ class AbacEvaluatorTest {
         makePolicyEntity(UUID.randomUUID(), "admin:write", Policy.Effect.DENY, "[\"free\"]", "[]");
     PolicyEntity allow =
         makePolicyEntity(UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[]", "[]");
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write"))
-        .thenReturn(List.of(deny, allow));
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(deny, allow));
 
     AbacContext ctx =
         new AbacContext(
@@ -88,8 +94,7 @@ class AbacEvaluatorTest {
     PolicyEntity deny = makePolicyEntity(denyId, "admin:write", Policy.Effect.DENY, "[]", "[]");
     PolicyEntity allow =
         makePolicyEntity(UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[]", "[]");
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write"))
-        .thenReturn(List.of(deny, allow));
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(deny, allow));
 
     AbacContext ctx =
         new AbacContext(
@@ -105,7 +110,7 @@ class AbacEvaluatorTest {
     PolicyEntity allow =
         makePolicyEntity(
             UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[\"enterprise\"]", "[]");
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of(allow));
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
 
     AbacContext ctx =
         new AbacContext(
@@ -121,7 +126,7 @@ class AbacEvaluatorTest {
     PolicyEntity allow =
         makePolicyEntity(
             UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[]", "[\"eu-west-1\"]");
-    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of(allow));
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
 
     AbacContext euCtx =
         new AbacContext(
@@ -134,6 +139,124 @@ class AbacEvaluatorTest {
     assertThat(evaluator.evaluate(usCtx).allowed()).isFalse();
   }
 
+  @Test
+  void evaluate_usesCompiledIndex_withoutQueryingPerRequest() {
+    PolicyEntity allow =
+        makePolicyEntity(UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[\"pro\"]", "[]");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
+
+    AbacContext ctx =
+        new AbacContext(
+            UUID.randomUUID(), "user@test", "admin:write", "pro", "us-east-1", "corr-1");
+    for (int i = 0; i < 5; i++) {
+      assertThat(evaluator.evaluate(ctx).allowed()).isTrue();
+    }
+
+    verify(policyRepo, times(1)).findByEnabledTrue();
+  }
+
+  @Test
+  void evaluate_softDeletedPolicy_isIgnored() {
+    PolicyEntity allow =
+        makePolicyEntity(UUID.randomUUID(), "admin:write", Policy.Effect.ALLOW, "[]", "[]");
+    allow.setDeleted(true);
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
+
+    AbacContext ctx =
+        new AbacContext(
+            UUID.randomUUID(), "user@test", "admin:write", "pro", "us-east-1", "corr-1");
+    assertThat(evaluator.evaluate(ctx).allowed()).isFalse();
+  }
+
+  @Test
+  void refreshPermission_movedPolicy_leavesPreviousPermissionCode() {
+    UUID policyId = UUID.randomUUID();
+    PolicyEntity allow = makePolicyEntity(policyId, "admin:write", Policy.Effect.ALLOW, "[]", "[]");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
+    AbacContext write =
+        new AbacContext(
+            UUID.randomUUID(), "user@test", "admin:write", "pro", "us-east-1", "corr-1");
+    assertThat(evaluator.evaluate(write).allowed()).isTrue();
+
+    allow.setPermissionCode("admin:read");
+    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:read")).thenReturn(List.of(allow));
+    indexProvider.refreshPermission(policyId, "admin:read");
+
+    AbacContext read =
+        new AbacContext(UUID.randomUUID(), "user@test", "admin:read", "pro", "us-east-1", "corr-2");
+    assertThat(evaluator.evaluate(read).allowed()).isTrue();
+    assertThat(evaluator.evaluate(write).allowed()).isFalse();
+    verify(policyRepo, times(1)).findByEnabledTrue();
+  }
+
+  @Test
+  void reconcile_missedChange_reloadsOnlyAffectedPermissionCode() {
+    UUID policyId = UUID.randomUUID();
+    PolicyEntity allow = makePolicyEntity(policyId, "admin:write", Policy.Effect.ALLOW, "[]", "[]");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allow));
+    AbacContext ctx =
+        new AbacContext(
+            UUID.randomUUID(), "user@test", "admin:write", "pro", "us-east-1", "corr-1");
+    assertThat(evaluator.evaluate(ctx).allowed()).isTrue();
+
+    Instant later = allow.getUpdatedAt().plusSeconds(5);
+    when(changeRepo.findChangedSince(any()))
+        .thenReturn(
+            List.of(new PolicyChangeJdbcRepository.PolicyChange(policyId, "admin:write", later)));
+    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of());
+    indexProvider.reconcile();
+
+    assertThat(evaluator.evaluate(ctx).allowed()).isFalse();
+    verify(policyRepo, times(1)).findByEnabledTrue();
+  }
+
+  @Test
+  void reconcile_changeInsideSkewWindow_isRecompiledOnlyOnce() {
+    PolicyEntity read =
+        makePolicyEntity(UUID.randomUUID(), "admin:read", Policy.Effect.ALLOW, "[]", "[]");
+    UUID writeId = UUID.randomUUID();
+    PolicyEntity write = makePolicyEntity(writeId, "admin:write", Policy.Effect.ALLOW, "[]", "[]");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(read, write));
+    indexProvider.rebuild();
+
+    Instant later = write.getUpdatedAt().plusSeconds(5);
+    when(changeRepo.findChangedSince(any()))
+        .thenReturn(
+            List.of(
+                new PolicyChangeJdbcRepository.PolicyChange(
+                    read.getId(), "admin:read", read.getUpdatedAt()),
+                new PolicyChangeJdbcRepository.PolicyChange(writeId, "admin:write", later)));
+    when(policyRepo.findByPermissionCodeAndEnabledTrue("admin:write")).thenReturn(List.of(write));
+    indexProvider.reconcile();
+    indexProvider.reconcile();
+    indexProvider.reconcile();
+
+    verify(policyRepo, never()).findByPermissionCodeAndEnabledTrue("admin:read");
+    verify(policyRepo, times(1)).findByPermissionCodeAndEnabledTrue("admin:write");
+  }
+
+  @Test
+  void evaluateAll_decidesEachPermission_withSingleLoadAndNoDenyAudit() {
+    UUID denyId = UUID.randomUUID();
+    PolicyEntity allowRead =
+        makePolicyEntity(UUID.randomUUID(), "admin:read", Policy.Effect.ALLOW, "[]", "[]");
+    PolicyEntity denyWrite =
+        makePolicyEntity(denyId, "admin:write", Policy.Effect.DENY, "[\"free\"]", "[]");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(allowRead, denyWrite));
+
+    AbacContext base =
+        new AbacContext(UUID.randomUUID(), "user@test", null, "free", "us-east-1", "corr-1");
+    Map<String, AbacResult> decisions =
+        evaluator.evaluateAll(base, List.of("admin:read", "admin:write", "admin:delete"));
+
+    assertThat(decisions).containsOnlyKeys("admin:read", "admin:write", "admin:delete");
+    assertThat(decisions.get("admin:read").allowed()).isTrue();
+    assertThat(decisions.get("admin:write").policyId()).isEqualTo(denyId);
+    assertThat(decisions.get("admin:delete").reason()).isEqualTo("no_matching_allow_policy");
+    verify(policyRepo, times(1)).findByEnabledTrue();
+    verifyNoInteractions(auditLogger, accessDeniedCounter);
+  }
+
   private PolicyEntity makePolicyEntity(
       UUID id, String permCode, Policy.Effect effect, String allowedPlans, String allowedRegions) {
     PolicyEntity e = new PolicyEntity();
@@ -0,0 +1,49 @@
+package com.union.solutions.saascore.unit.application.abac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.application.abac.PolicyIndex;
+import com.union.solutions.saascore.application.abac.PolicyIndex.CompiledPolicy;
+import com.union.solutions.saascore.domain.Policy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PolicyIndexTest {
+
+  private final CompiledPolicy proOnly = policy("a:read", Set.of("pro"), Set.of());
+  private final CompiledPolicy euOnly = policy("b:read", Set.of(), Set.of("eu-west-1"));
+  private final CompiledPolicy proInUs = policy("c:read", Set.of("pro"), Set.of("us-east-1"));
+  private final CompiledPolicy global = policy("d:read", Set.of(), Set.of());
+
+  @Test
+  void applicable_intersectsPlanAndRegion() {
+    PolicyIndex index = PolicyIndex.compile(List.of(proOnly, euOnly, proInUs, global));
+
+    assertThat(index.applicable("pro", "us-east-1"))
+        .containsExactlyInAnyOrder(proOnly, proInUs, global);
+    assertThat(index.applicable("free", "eu-west-1")).containsExactlyInAnyOrder(euOnly, global);
+    assertThat(index.applicable(null, null)).containsExactly(global);
+  }
+
+  @Test
+  void applicable_followsRefreshedPolicies() {
+    PolicyIndex index = PolicyIndex.compile(List.of(proOnly, global));
+    CompiledPolicy moved =
+        new CompiledPolicy(
+            proOnly.id(), "a:read", Policy.Effect.ALLOW, Set.of("enterprise"), Set.of());
+
+    PolicyIndex refreshed =
+        index.withRefreshed(Map.of("a:read", List.of(moved)), Set.of(proOnly.id()));
+
+    assertThat(refreshed.applicable("pro", "us-east-1")).containsExactly(global);
+    assertThat(refreshed.applicable("enterprise", "us-east-1"))
+        .containsExactlyInAnyOrder(moved, global);
+  }
+
+  private static CompiledPolicy policy(String code, Set<String> plans, Set<String> regions) {
+    return new CompiledPolicy(UUID.randomUUID(), code, Policy.Effect.ALLOW, plans, regions);
+  }
+}
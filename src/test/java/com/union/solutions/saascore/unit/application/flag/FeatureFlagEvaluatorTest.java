@@ -0,0 +1,106 @@
+package com.union.solutions.saascore.unit.application.flag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagEntity;
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
+import com.union.solutions.saascore.application.flag.FeatureFlagChangedEvent;
+import com.union.solutions.saascore.application.flag.FeatureFlagEvaluator;
+import com.union.solutions.saascore.application.flag.FlagEvaluation;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureFlagEvaluatorTest {
+
+  @Mock FeatureFlagJpaRepository flagRepo;
+
+  private final UUID tenantId = UUID.randomUUID();
+  private FeatureFlagEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    evaluator = new FeatureFlagEvaluator(flagRepo, new ObjectMapper(), 60000);
+  }
+
+  @Test
+  void evaluate_resolvesEachReason() {
+    when(flagRepo.findByTenantId(tenantId))
+        .thenReturn(
+            List.of(
+                flag("on", true, 100, "[]"),
+                flag("off", false, 100, "[]"),
+                flag("admins", true, 100, "[\"admin\"]"),
+                flag("dark", true, 0, "[]")));
+
+    Map<String, FlagEvaluation> result =
+        evaluator.evaluate(
+            tenantId, "user@test", List.of("viewer"), List.of("on", "off", "admins", "dark", "x"));
+
+    assertThat(result)
+        .containsExactly(
+            Map.entry("on", FlagEvaluation.on()),
+            Map.entry("off", FlagEvaluation.disabled()),
+            Map.entry("admins", FlagEvaluation.roleNotAllowed()),
+            Map.entry("dark", FlagEvaluation.rollout(false)),
+            Map.entry("x", FlagEvaluation.notFound()));
+  }
+
+  @Test
+  void evaluate_rollout_isDeterministicPerSubject() {
+    when(flagRepo.findByTenantId(tenantId)).thenReturn(List.of(flag("beta", true, 30, "[]")));
+
+    for (int i = 0; i < 50; i++) {
+      String subject = "user-" + i;
+      boolean expected = FeatureFlagEvaluator.bucket(tenantId, "beta", subject) < 30;
+      Map<String, FlagEvaluation> first =
+          evaluator.evaluate(tenantId, subject, List.of(), List.of("beta"));
+      Map<String, FlagEvaluation> second =
+          evaluator.evaluate(tenantId, subject, List.of(), List.of("beta"));
+      assertThat(first.get("beta").enabled()).isEqualTo(expected);
+      assertThat(second).isEqualTo(first);
+    }
+    verify(flagRepo, times(1)).findByTenantId(tenantId);
+  }
+
+  @Test
+  void evaluate_emptyFlagList_evaluatesAllTenantFlags() {
+    when(flagRepo.findByTenantId(tenantId))
+        .thenReturn(List.of(flag("a", true, 100, "[]"), flag("b", false, 100, "[]")));
+
+    assertThat(evaluator.evaluate(tenantId, "user@test", List.of(), List.of()))
+        .containsOnlyKeys("a", "b");
+  }
+
+  @Test
+  void onFlagChanged_reloadsTenantTable() {
+    when(flagRepo.findByTenantId(tenantId))
+        .thenReturn(List.of(flag("a", false, 100, "[]")))
+        .thenReturn(List.of(flag("a", true, 100, "[]")));
+
+    assertThat(evaluator.evaluate(tenantId, "u", List.of(), List.of("a")).get("a").enabled())
+        .isFalse();
+    evaluator.onFlagChanged(new FeatureFlagChangedEvent(tenantId, "a"));
+    assertThat(evaluator.evaluate(tenantId, "u", List.of(), List.of("a")).get("a").enabled())
+        .isTrue();
+  }
+
+  private FeatureFlagEntity flag(String name, boolean enabled, int rollout, String roles) {
+    FeatureFlagEntity e = new FeatureFlagEntity();
+    e.setId(UUID.randomUUID());
+    e.setTenantId(tenantId);
+    e.setName(name);
+    e.setEnabled(enabled);
+    e.setRolloutPercent(rollout);
+    e.setAllowedRoles(roles);
+    return e;
+  }
+}
@@ -0,0 +1,105 @@
+package com.union.solutions.saascore.unit.application.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.AggregateViewJdbcRepository;
+import com.union.solutions.saascore.application.metrics.AggregateViewRefresher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AggregateViewRefresherTest {
+
+  @Mock AggregateViewJdbcRepository viewRepo;
+  @Mock TransactionTemplate tx;
+
+  private final AtomicLong clock = new AtomicLong(1_000_000);
+  private AggregateViewRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(tx.execute(any()))
+        .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    refresher =
+        new AggregateViewRefresher(viewRepo, tx, 10_000, 300_000, clock::get, Runnable::run);
+  }
+
+  @Test
+  void tick_refreshesDirtyViewsOnlyAfterMinInterval() {
+    when(viewRepo.tryRefreshLock()).thenReturn(true);
+    refresher.markDirty();
+
+    clock.addAndGet(5_000);
+    refresher.tick();
+    verifyNoInteractions(viewRepo);
+
+    clock.addAndGet(5_000);
+    refresher.tick();
+    verify(viewRepo).refresh("v_tenants_by_plan");
+    verify(viewRepo).refresh("v_active_flags_by_tenant");
+  }
+
+  @Test
+  void tick_refreshesOnCadenceWithoutEvents() {
+    when(viewRepo.tryRefreshLock()).thenReturn(true);
+
+    clock.addAndGet(60_000);
+    refresher.tick();
+    verifyNoInteractions(viewRepo);
+
+    clock.addAndGet(240_000);
+    refresher.tick();
+    verify(viewRepo, times(2)).refresh(anyString());
+  }
+
+  @Test
+  void tick_handsRefreshToTheExecutorOnce() {
+    List<Runnable> submitted = new ArrayList<>();
+    AggregateViewRefresher queued =
+        new AggregateViewRefresher(viewRepo, tx, 10_000, 300_000, clock::get, submitted::add);
+    queued.markDirty();
+    clock.addAndGet(10_000);
+
+    queued.tick();
+    queued.tick();
+
+    assertThat(submitted).hasSize(1);
+    verifyNoInteractions(viewRepo);
+    when(viewRepo.tryRefreshLock()).thenReturn(true);
+    submitted.getFirst().run();
+    verify(viewRepo, times(2)).refresh(anyString());
+  }
+
+  @Test
+  void refresh_skipsWhenAnotherReplicaHoldsTheLock() {
+    when(viewRepo.tryRefreshLock()).thenReturn(false);
+
+    assertThat(refresher.refresh()).isFalse();
+    verify(viewRepo, never()).refresh(anyString());
+  }
+
+  @Test
+  void refresh_keepsDirtyAfterFailure() {
+    when(viewRepo.tryRefreshLock()).thenReturn(true);
+    doThrow(new RuntimeException("db down")).when(viewRepo).refresh("v_tenants_by_plan");
+    refresher.markDirty();
+    clock.addAndGet(10_000);
+
+    refresher.tick();
+    clock.addAndGet(10_000);
+    refresher.tick();
+
+    verify(viewRepo, times(2)).refresh("v_tenants_by_plan");
+  }
+}
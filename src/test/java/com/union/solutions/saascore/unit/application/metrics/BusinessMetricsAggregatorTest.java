@@ -0,0 +1,147 @@
+package com.union.solutions.saascore.unit.application.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.TenantQueryJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.TenantQueryJdbcRepository.PlanStatusCount;
+import com.union.solutions.saascore.application.metrics.BusinessMetricsAggregator;
+import com.union.solutions.saascore.domain.Tenant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessMetricsAggregatorTest {
+
+  @Mock TenantQueryJdbcRepository tenantQueries;
+  @Mock PolicyJpaRepository policyRepo;
+  @Mock FeatureFlagJpaRepository flagRepo;
+  @Mock PlatformTransactionManager txManager;
+
+  private static final Instant RECONCILED_AT = Instant.parse("2026-03-01T10:00:00Z");
+  private static final Instant AFTER = RECONCILED_AT.plusSeconds(1);
+
+  private SimpleMeterRegistry registry;
+  private BusinessMetricsAggregator aggregator;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    aggregator =
+        new BusinessMetricsAggregator(tenantQueries, policyRepo, flagRepo, registry, txManager);
+    when(tenantQueries.countByPlanAndStatus())
+        .thenReturn(
+            List.of(
+                new PlanStatusCount("pro", Tenant.TenantStatus.ACTIVE, 3L),
+                new PlanStatusCount("free", Tenant.TenantStatus.SUSPENDED, 1L)));
+    when(tenantQueries.transactionTimestamp()).thenReturn(RECONCILED_AT);
+    when(policyRepo.countActive()).thenReturn(5L);
+    when(flagRepo.countActiveFlags()).thenReturn(2L);
+  }
+
+  @Test
+  void snapshot_loadsOnceAndServesFromMemory() {
+    aggregator.snapshot();
+    BusinessMetricsAggregator.Snapshot snapshot = aggregator.snapshot();
+
+    assertThat(snapshot.tenantsByStatus())
+        .containsEntry(Tenant.TenantStatus.ACTIVE, 3L)
+        .containsEntry(Tenant.TenantStatus.SUSPENDED, 1L)
+        .containsEntry(Tenant.TenantStatus.DELETED, 0L);
+    assertThat(snapshot.tenantsByPlan()).containsEntry("pro", Map.of("ACTIVE", 3L));
+    assertThat(snapshot.activePolicies()).isEqualTo(5);
+    assertThat(snapshot.activeFlags()).isEqualTo(2);
+    verify(tenantQueries, times(1)).countByPlanAndStatus();
+  }
+
+  @Test
+  void apply_movesTenantCountersAndGauges() {
+    aggregator.snapshot();
+
+    aggregator.apply(
+        "tenant.created", AFTER, Map.of("name", "Acme", "plan", "free", "region", "eu"));
+    aggregator.apply(
+        "tenant.updated",
+        AFTER,
+        Map.of(
+            "plan", "enterprise",
+            "status", "ACTIVE",
+            "previousPlan", "pro",
+            "previousStatus", "ACTIVE"));
+    aggregator.apply(
+        "tenant.deleted", AFTER, Map.of("plan", "free", "previousStatus", "SUSPENDED"));
+
+    BusinessMetricsAggregator.Snapshot snapshot = aggregator.snapshot();
+    assertThat(snapshot.tenantsByPlan())
+        .containsEntry("pro", Map.of("ACTIVE", 2L))
+        .containsEntry("enterprise", Map.of("ACTIVE", 1L))
+        .containsEntry("free", Map.of("ACTIVE", 1L, "DELETED", 1L));
+    assertThat(registry.get("saas_tenants").tags("plan", "enterprise", "status", "ACTIVE").gauge())
+        .satisfies(g -> assertThat(g.value()).isEqualTo(1.0));
+  }
+
+  @Test
+  void apply_tracksEnabledTransitionsOfPoliciesAndFlags() {
+    aggregator.snapshot();
+
+    aggregator.apply("policy.created", AFTER, Map.of("permissionCode", "x", "enabled", "true"));
+    aggregator.apply(
+        "policy.updated",
+        AFTER,
+        Map.of("permissionCode", "x", "enabled", "false", "previousEnabled", "true"));
+    aggregator.apply("flag.deleted", AFTER, Map.of("name", "beta", "previousEnabled", "true"));
+    aggregator.apply("flag.toggled", AFTER, Map.of("name", "beta"));
+
+    assertThat(aggregator.snapshot().activePolicies()).isEqualTo(5);
+    assertThat(registry.get("saas_active_flags").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  void apply_skipsEventsAlreadyCountedByTheLastReconcile() {
+    aggregator.snapshot();
+
+    aggregator.apply("tenant.created", RECONCILED_AT.minusSeconds(5), Map.of("plan", "pro"));
+    aggregator.apply("tenant.created", RECONCILED_AT, Map.of("plan", "pro"));
+    assertThat(aggregator.snapshot().tenantsByPlan()).containsEntry("pro", Map.of("ACTIVE", 3L));
+
+    when(tenantQueries.transactionTimestamp()).thenReturn(AFTER.plusSeconds(60));
+    aggregator.reconcile();
+    aggregator.apply("policy.created", AFTER, Map.of("enabled", "true"));
+    aggregator.apply("policy.created", null, Map.of("enabled", "true"));
+
+    assertThat(aggregator.snapshot().activePolicies()).isEqualTo(6);
+  }
+
+  @Test
+  void reconcile_overwritesDrift() {
+    aggregator.snapshot();
+    aggregator.apply("tenant.created", AFTER, Map.of("plan", "pro"));
+    aggregator.apply("policy.created", AFTER, Map.of("enabled", "true"));
+
+    aggregator.reconcile();
+
+    BusinessMetricsAggregator.Snapshot snapshot = aggregator.snapshot();
+    assertThat(snapshot.tenantsByStatus()).containsEntry(Tenant.TenantStatus.ACTIVE, 3L);
+    assertThat(snapshot.activePolicies()).isEqualTo(5);
+  }
+
+  @Test
+  void reconcile_keepsCountersWhenDatabaseFails() {
+    aggregator.snapshot();
+    when(policyRepo.countActive()).thenThrow(new RuntimeException("db down"));
+
+    aggregator.reconcile();
+
+    assertThat(aggregator.snapshot().activePolicies()).isEqualTo(5);
+  }
+}
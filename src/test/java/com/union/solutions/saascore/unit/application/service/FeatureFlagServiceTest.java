@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagEntity;
 import com.union.solutions.saascore.adapters.out.persistence.FeatureFlagJpaRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.application.flag.FeatureFlagChangedEvent;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.application.service.FeatureFlagService;
 import io.micrometer.core.instrument.Counter;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class FeatureFlagServiceTest {
@@ -29,6 +31,7 @@ class FeatureFlagServiceTest {
   @Mock OutboxPublisherPort outboxPublisher;
   @Mock AuditLogger auditLogger;
   @Mock Counter flagsToggledCounter;
+  @Mock ApplicationEventPublisher eventPublisher;
 
   private FeatureFlagService service;
 
@@ -36,7 +39,12 @@ class FeatureFlagServiceTest {
   void setUp() {
     service =
         new FeatureFlagService(
-            flagRepo, outboxPublisher, auditLogger, new ObjectMapper(), flagsToggledCounter);
+            flagRepo,
+            outboxPublisher,
+            auditLogger,
+            new ObjectMapper(),
+            flagsToggledCounter,
+            eventPublisher);
   }
 
   @Test
@@ -52,6 +60,7 @@ class FeatureFlagServiceTest {
     assertThat(result.getRolloutPercent()).isEqualTo(50);
     verify(flagRepo).save(any());
     verify(outboxPublisher).publish(eq("FLAG"), anyString(), eq("flag.created"), anyMap());
+    verify(eventPublisher).publishEvent(any(FeatureFlagChangedEvent.class));
   }
 
   @Test
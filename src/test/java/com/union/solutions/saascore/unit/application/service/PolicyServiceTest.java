@@ -5,9 +5,13 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyChangeJdbcRepository;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyEntity;
 import com.union.solutions.saascore.adapters.out.persistence.PolicyJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.PolicyQueryJdbcRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
+import com.union.solutions.saascore.application.abac.PolicyChangedEvent;
+import com.union.solutions.saascore.application.abac.PolicyIndexProvider;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.application.service.PolicyService;
 import com.union.solutions.saascore.domain.Policy;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class PolicyServiceTest {
@@ -29,6 +34,9 @@ class PolicyServiceTest {
   @Mock OutboxPublisherPort outboxPublisher;
   @Mock AuditLogger auditLogger;
   @Mock Counter policiesUpdatedCounter;
+  @Mock ApplicationEventPublisher eventPublisher;
+  @Mock PolicyChangeJdbcRepository changeRepo;
+  @Mock PolicyQueryJdbcRepository queryRepo;
 
   private PolicyService service;
 
@@ -36,7 +44,14 @@ class PolicyServiceTest {
   void setUp() {
     service =
         new PolicyService(
-            policyRepo, outboxPublisher, auditLogger, new ObjectMapper(), policiesUpdatedCounter);
+            policyRepo,
+            outboxPublisher,
+            auditLogger,
+            new ObjectMapper(),
+            policiesUpdatedCounter,
+            eventPublisher,
+            new PolicyIndexProvider(policyRepo, changeRepo, new ObjectMapper(), 30_000),
+            queryRepo);
   }
 
   @Test
@@ -52,6 +67,7 @@ class PolicyServiceTest {
 
     verify(policyRepo).save(any(PolicyEntity.class));
     verify(outboxPublisher).publish(eq("POLICY"), anyString(), eq("policy.created"), anyMap());
+    verify(eventPublisher).publishEvent(any(PolicyChangedEvent.class));
   }
 
   @Test
@@ -109,12 +125,27 @@ class PolicyServiceTest {
     p2.setAllowedRegions("[\"eu-west-1\"]");
 
     when(policyRepo.findByEnabledTrue()).thenReturn(List.of(p1, p2));
+    when(policyRepo.findAllById(List.of(p1.getId()))).thenReturn(List.of(p1));
 
     List<PolicyEntity> result = service.getApplicablePolicies("pro", "us-east-1");
     assertThat(result).hasSize(1);
     assertThat(result.getFirst().getPermissionCode()).isEqualTo("test:a");
   }
 
+  @Test
+  void getApplicablePolicies_isOrderedByPermissionCodeThenId() {
+    PolicyEntity b =
+        makePolicyEntity(UUID.fromString("00000000-0000-0000-0000-000000000001"), "b:x");
+    PolicyEntity a2 =
+        makePolicyEntity(UUID.fromString("00000000-0000-0000-0000-000000000003"), "a:x");
+    PolicyEntity a1 =
+        makePolicyEntity(UUID.fromString("00000000-0000-0000-0000-000000000002"), "a:x");
+    when(policyRepo.findByEnabledTrue()).thenReturn(List.of(b, a2, a1));
+    when(policyRepo.findAllById(anyList())).thenReturn(List.of(b, a2, a1));
+
+    assertThat(service.getApplicablePolicies("pro", "us-east-1")).containsExactly(a1, a2, b);
+  }
+
   private PolicyEntity makePolicyEntity(UUID id, String permCode) {
     PolicyEntity e = new PolicyEntity();
     e.setId(id);
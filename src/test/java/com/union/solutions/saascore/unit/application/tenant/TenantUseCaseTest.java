@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import com.union.solutions.saascore.adapters.out.persistence.TenantEntity;
 import com.union.solutions.saascore.adapters.out.persistence.TenantJpaRepository;
+import com.union.solutions.saascore.adapters.out.persistence.TenantQueryJdbcRepository;
 import com.union.solutions.saascore.application.abac.AuditLogger;
 import com.union.solutions.saascore.application.port.OutboxPublisherPort;
 import com.union.solutions.saascore.application.tenant.TenantUseCase;
@@ -27,12 +28,15 @@ class TenantUseCaseTest {
   @Mock OutboxPublisherPort outboxPublisher;
   @Mock AuditLogger auditLogger;
   @Mock Counter tenantsCreatedCounter;
+  @Mock TenantQueryJdbcRepository queryRepo;
 
   private TenantUseCase useCase;
 
   @BeforeEach
   void setUp() {
-    useCase = new TenantUseCase(tenantRepo, outboxPublisher, auditLogger, tenantsCreatedCounter);
+    useCase =
+        new TenantUseCase(
+            tenantRepo, outboxPublisher, auditLogger, tenantsCreatedCounter, queryRepo);
   }
 
   @Test
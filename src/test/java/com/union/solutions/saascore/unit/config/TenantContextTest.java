@@ -2,9 +2,11 @@ package com.union.solutions.saascore.unit.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.union.solutions.saascore.config.RequestPrincipal;
 import com.union.solutions.saascore.config.TenantContext;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -73,6 +75,62 @@ class TenantContextTest {
     assertThat(TenantContext.getCorrelationId()).isEqualTo("corr-1");
   }
 
+  @Test
+  void setPrincipal_populatesAllFields() {
+    UUID id = UUID.randomUUID();
+    RequestPrincipal principal =
+        new RequestPrincipal("user", id, "pro", "us-east-1", List.of("admin"), List.of("read"));
+    TenantContext.setPrincipal(principal);
+    assertThat(TenantContext.getPrincipal()).isSameAs(principal);
+    assertThat(TenantContext.getTenantId()).contains(id);
+    assertThat(TenantContext.getSubject()).isEqualTo("user");
+    assertThat(TenantContext.getPlan()).isEqualTo("pro");
+    assertThat(TenantContext.getRoles()).containsExactly("admin");
+    assertThat(TenantContext.getPerms()).containsExactly("read");
+  }
+
+  @Test
+  void getPlan_readsSnapshotOnce_andSettersKeepOtherFields() {
+    TenantContext.setPlan("pro");
+    TenantContext.setRegion("eu-west-1");
+    TenantContext.Snapshot snapshot = TenantContext.capture();
+    assertThat(snapshot.plan()).isEqualTo("pro");
+    assertThat(snapshot.region()).isEqualTo("eu-west-1");
+  }
+
+  @Test
+  void wrap_carriesCapturedContextToAnotherThread() throws Exception {
+    UUID id = UUID.randomUUID();
+    TenantContext.setTenantId(id);
+    TenantContext.setCorrelationId("corr-2");
+    AtomicReference<UUID> seenTenant = new AtomicReference<>();
+    AtomicReference<String> seenCorrelation = new AtomicReference<>();
+
+    Runnable task =
+        TenantContext.wrap(
+            () -> {
+              seenTenant.set(TenantContext.getTenantId().orElse(null));
+              seenCorrelation.set(TenantContext.getCorrelationId());
+            });
+    TenantContext.clear();
+    Thread worker = Thread.ofVirtual().start(task);
+    worker.join();
+
+    assertThat(seenTenant.get()).isEqualTo(id);
+    assertThat(seenCorrelation.get()).isEqualTo("corr-2");
+    assertThat(TenantContext.getTenantId()).isEmpty();
+  }
+
+  @Test
+  void runWith_restoresPreviousContext() {
+    TenantContext.setSubject("outer");
+    TenantContext.Snapshot inner = TenantContext.Snapshot.EMPTY.withSubject("inner");
+
+    TenantContext.runWith(inner, () -> assertThat(TenantContext.getSubject()).isEqualTo("inner"));
+
+    assertThat(TenantContext.getSubject()).isEqualTo("outer");
+  }
+
   @Test
   void clear_removesAllValues() {
     TenantContext.setTenantId(UUID.randomUUID());
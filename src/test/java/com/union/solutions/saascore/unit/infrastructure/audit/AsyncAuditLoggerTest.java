@@ -0,0 +1,76 @@
+package com.union.solutions.saascore.unit.infrastructure.audit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.AuditLogJdbcWriter;
+import com.union.solutions.saascore.infrastructure.audit.AsyncAuditLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAuditLoggerTest {
+
+  @Mock AuditLogJdbcWriter writer;
+  @Mock Counter droppedCounter;
+
+  @Test
+  void log_disabled_writesSynchronously() {
+    AsyncAuditLogger logger = newLogger(false, 10);
+
+    log(logger, "ACCESS_DENIED");
+
+    verify(writer).insert(any());
+    verifyNoInteractions(droppedCounter);
+  }
+
+  @Test
+  void log_enabled_flushesInBatches() throws Exception {
+    AsyncAuditLogger logger = newLogger(true, 10);
+    logger.start();
+
+    for (int i = 0; i < 3; i++) log(logger, "ACCESS_DENIED");
+    logger.stop();
+
+    verify(writer, atLeastOnce()).insertBatch(anyList());
+    verify(writer, never()).insert(any());
+  }
+
+  @Test
+  void log_fullBuffer_dropsDenyButWritesMutationSynchronously() {
+    AsyncAuditLogger logger = newLogger(true, 1);
+
+    log(logger, "ACCESS_DENIED");
+    log(logger, "ACCESS_DENIED");
+    log(logger, "POLICY_CREATED");
+
+    verify(droppedCounter).increment();
+    verify(writer).insert(argThat(r -> r.action().equals("POLICY_CREATED")));
+  }
+
+  private AsyncAuditLogger newLogger(boolean enabled, int capacity) {
+    return new AsyncAuditLogger(
+        writer, new SimpleMeterRegistry(), droppedCounter, enabled, capacity, 50, 20);
+  }
+
+  private static void log(AsyncAuditLogger logger, String action) {
+    logger.log(
+        UUID.randomUUID(),
+        "user@test",
+        "[]",
+        "[]",
+        action,
+        "permission",
+        "tenants:write",
+        null,
+        null,
+        403,
+        "corr-1",
+        null);
+  }
+}
@@ -0,0 +1,134 @@
+package com.union.solutions.saascore.unit.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.adapters.out.persistence.OutboxPartitionJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxPartitionJdbcRepository.Partition;
+import com.union.solutions.saascore.infrastructure.outbox.OutboxPartitionMaintainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPartitionMaintainerTest {
+
+  @Mock OutboxPartitionJdbcRepository partitionRepo;
+  @Mock TransactionTemplate tx;
+
+  private final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+  private SimpleMeterRegistry registry;
+  private OutboxPartitionMaintainer maintainer;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(tx.execute(any()))
+        .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient().when(partitionRepo.tryMaintenanceLock()).thenReturn(true);
+    lenient().when(partitionRepo.partitionExists(anyString())).thenReturn(true);
+    registry = new SimpleMeterRegistry();
+    maintainer = new OutboxPartitionMaintainer(partitionRepo, tx, registry, 3, 7, "drop", 5000);
+  }
+
+  @Test
+  void maintain_createsMissingDaysIncludingOnesStuckInDefault() {
+    LocalDate lagged = today.minusDays(2);
+    String laggedName = OutboxPartitionJdbcRepository.dailyPartitionName(lagged);
+    String aheadName = OutboxPartitionJdbcRepository.dailyPartitionName(today.plusDays(3));
+    when(partitionRepo.findDefaultPartitionDays()).thenReturn(List.of(lagged));
+    when(partitionRepo.partitionExists(laggedName)).thenReturn(false);
+    when(partitionRepo.partitionExists(aheadName)).thenReturn(false);
+    when(partitionRepo.createDailyPartition(lagged)).thenReturn(12);
+    when(partitionRepo.countDefaultPartitionRows()).thenReturn(0L);
+
+    maintainer.maintain();
+
+    verify(partitionRepo).createDailyPartition(lagged);
+    verify(partitionRepo).createDailyPartition(today.plusDays(3));
+    verify(partitionRepo, times(2)).createDailyPartition(any());
+    verify(tx, times(2)).execute(any());
+    assertThat(registry.get("saas_outbox_default_partition_rows").gauge().value()).isZero();
+  }
+
+  @Test
+  void maintain_failedCreateDoesNotStopOtherDaysOrPurge() {
+    String first = OutboxPartitionJdbcRepository.dailyPartitionName(today.plusDays(2));
+    String second = OutboxPartitionJdbcRepository.dailyPartitionName(today.plusDays(3));
+    when(partitionRepo.partitionExists(first)).thenReturn(false);
+    when(partitionRepo.partitionExists(second)).thenReturn(false);
+    when(partitionRepo.createDailyPartition(today.plusDays(2)))
+        .thenThrow(new RuntimeException("conflict"));
+    Partition expired = expired("outbox_events_p20200101");
+    when(partitionRepo.findBoundedPartitions()).thenReturn(List.of(expired));
+
+    maintainer.maintain();
+
+    verify(partitionRepo).createDailyPartition(today.plusDays(3));
+    verify(partitionRepo).detach("outbox_events_p20200101");
+    verify(partitionRepo).drop("outbox_events_p20200101");
+  }
+
+  @Test
+  void purge_scansOutsideTheDetachTransactionAndIsolatesFailures() {
+    Partition pending = expired("outbox_events_p20200101");
+    Partition broken = expired("outbox_events_p20200102");
+    Partition done = expired("outbox_events_p20200103");
+    Partition recent =
+        new Partition("outbox_events_p99991231", Instant.now().plus(1, ChronoUnit.DAYS));
+    when(partitionRepo.findBoundedPartitions()).thenReturn(List.of(pending, broken, done, recent));
+    when(partitionRepo.hasUnpublishedRows("outbox_events_p20200101")).thenReturn(true);
+    doThrow(new RuntimeException("lock timeout"))
+        .when(partitionRepo)
+        .detach("outbox_events_p20200102");
+
+    maintainer.maintain();
+
+    verify(partitionRepo, never()).detach("outbox_events_p20200101");
+    verify(partitionRepo, never()).drop("outbox_events_p20200102");
+    verify(partitionRepo, never()).hasUnpublishedRows("outbox_events_p99991231");
+    InOrder order = inOrder(partitionRepo, tx);
+    order.verify(partitionRepo).hasUnpublishedRows("outbox_events_p20200103");
+    order.verify(tx).execute(any());
+    order.verify(partitionRepo).setLockTimeout(any());
+    order.verify(partitionRepo).detach("outbox_events_p20200103");
+    order.verify(partitionRepo).drop("outbox_events_p20200103");
+  }
+
+  @Test
+  void purge_skipsWhenAnotherReplicaHoldsTheLock() {
+    when(partitionRepo.tryMaintenanceLock()).thenReturn(false);
+    when(partitionRepo.findBoundedPartitions())
+        .thenReturn(List.of(expired("outbox_events_p20200101")));
+
+    maintainer.maintain();
+
+    verify(partitionRepo, never()).detach(anyString());
+    verify(partitionRepo, never()).drop(anyString());
+  }
+
+  @Test
+  void maintain_reportsRowsLeftInDefaultPartition() {
+    when(partitionRepo.countDefaultPartitionRows()).thenReturn(4L);
+
+    maintainer.maintain();
+
+    assertThat(registry.get("saas_outbox_default_partition_rows").gauge().value()).isEqualTo(4.0);
+  }
+
+  private static Partition expired(String name) {
+    return new Partition(name, Instant.parse("2020-01-02T00:00:00Z"));
+  }
+}
@@ -0,0 +1,164 @@
+package com.union.solutions.saascore.unit.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository;
+import com.union.solutions.saascore.adapters.out.persistence.OutboxEventJdbcRepository.OutboxRecord;
+import com.union.solutions.saascore.infrastructure.outbox.OutboxPublisher;
+import com.union.solutions.saascore.infrastructure.outbox.OutboxRetryPolicy;
+import io.micrometer.core.instrument.Counter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+  @Mock OutboxEventJdbcRepository outboxRepo;
+  @Mock RabbitTemplate rabbitTemplate;
+  @Mock OutboxRetryPolicy retryPolicy;
+  @Mock Counter publishedCounter;
+  @Mock Counter failedCounter;
+  @Mock Counter unroutableCounter;
+
+  private OutboxPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    publisher = publisher(false);
+  }
+
+  @Test
+  void sweepStragglers_drainsUntilShortBatch() {
+    when(outboxRepo.claimBatch(any(), any(), eq(Instant.EPOCH), eq(2)))
+        .thenReturn(List.of(record(), record()), List.of(record(), record()), List.of(record()));
+
+    publisher.sweepStragglers();
+
+    verify(outboxRepo, timeout(1000).times(3)).markPublished(anyCollection(), any());
+    verify(outboxRepo, times(3)).claimBatch(any(), any(), eq(Instant.EPOCH), eq(2));
+    verify(publishedCounter, times(2)).increment(2.0);
+  }
+
+  @Test
+  void sweepStragglers_stopsOnEmptyBatch() {
+    when(outboxRepo.claimBatch(any(), any(), eq(Instant.EPOCH), eq(2))).thenReturn(List.of());
+
+    publisher.sweepStragglers();
+
+    verify(outboxRepo, timeout(1000)).markPublished(anyCollection(), any());
+    verify(outboxRepo, times(1)).claimBatch(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publish_passesPartitionKeyToEveryUpdate() {
+    OutboxRecord ok = record();
+    OutboxRecord failing = record();
+    doNothing()
+        .doThrow(new RuntimeException("broker down"))
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), (CorrelationData) isNull());
+    when(retryPolicy.maxAttempts("TENANT")).thenReturn(5);
+    when(retryPolicy.nextDelay("TENANT", 1)).thenReturn(Duration.ofSeconds(1));
+    when(outboxRepo.claimBatch(any(), any(), eq(Instant.EPOCH), eq(2)))
+        .thenReturn(List.of(ok, failing), List.of());
+
+    publisher.sweepStragglers();
+
+    ArgumentCaptor<Collection<OutboxRecord>> published = ArgumentCaptor.forClass(Collection.class);
+    verify(outboxRepo, timeout(1000).times(2)).markPublished(published.capture(), any());
+    assertThat(published.getAllValues().get(0)).containsExactly(ok);
+    verify(outboxRepo).markRetry(eq(failing.id()), eq(failing.createdAt()), eq(1), any(), any());
+  }
+
+  @Test
+  void sweepStragglers_runsOffTheSchedulerThreadAndNeverOverlaps() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(outboxRepo.claimBatch(any(), any(), eq(Instant.EPOCH), eq(2)))
+        .thenAnswer(
+            inv -> {
+              release.await(1, TimeUnit.SECONDS);
+              return List.of();
+            });
+
+    publisher.sweepStragglers();
+    publisher.sweepStragglers();
+    release.countDown();
+
+    verify(outboxRepo, timeout(1000)).markPublished(anyCollection(), any());
+    verify(outboxRepo, times(1)).claimBatch(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void publish_countsUnroutableReturnsWithoutFailingTheRow() {
+    OutboxPublisher confirming = publisher(true);
+    OutboxRecord event = record();
+    doAnswer(
+            inv -> {
+              CorrelationData correlation = inv.getArgument(3);
+              correlation.setReturned(
+                  new ReturnedMessage(
+                      new Message(new byte[0]), 312, "NO_ROUTE", "saas.events", "saas.TENANT"));
+              correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+              return null;
+            })
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    when(outboxRepo.claimBatch(any(), any(), eq(Instant.EPOCH), eq(2))).thenReturn(List.of(event));
+
+    confirming.sweepStragglers();
+
+    verify(outboxRepo, timeout(1000)).markPublished(eq(List.of(event)), any());
+    verify(unroutableCounter).increment();
+    verify(outboxRepo, never()).markRetry(any(), any(), anyInt(), any(), any());
+  }
+
+  private OutboxPublisher publisher(boolean publisherConfirms) {
+    return new OutboxPublisher(
+        outboxRepo,
+        rabbitTemplate,
+        new ObjectMapper(),
+        retryPolicy,
+        publishedCounter,
+        failedCounter,
+        unroutableCounter,
+        2,
+        60,
+        1,
+        24,
+        publisherConfirms,
+        5000,
+        "saas.events",
+        "saas",
+        false);
+  }
+
+  private static OutboxRecord record() {
+    return new OutboxRecord(
+        UUID.randomUUID(),
+        "TENANT",
+        UUID.randomUUID().toString(),
+        "tenant.created",
+        "{\"plan\":\"pro\"}",
+        Instant.parse("2026-03-01T10:00:00Z"),
+        0);
+  }
+}
@@ -0,0 +1,53 @@
+package com.union.solutions.saascore.unit.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.infrastructure.outbox.OutboxRetryPolicy;
+import com.union.solutions.saascore.infrastructure.outbox.OutboxRetryProperties;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OutboxRetryPolicyTest {
+
+  private final OutboxRetryPolicy policy =
+      new OutboxRetryPolicy(
+          new OutboxRetryProperties(
+              Duration.ofSeconds(1),
+              Duration.ofSeconds(30),
+              2.0,
+              Map.of(
+                  "TENANT",
+                  new OutboxRetryProperties.Backoff(Duration.ofSeconds(10), null, null, 8))),
+          5);
+
+  @Test
+  void nextDelay_staysWithinExponentialCap() {
+    for (int attempt = 1; attempt <= 10; attempt++) {
+      long capMs = Math.min(30_000, 1000L << (attempt - 1));
+      for (int i = 0; i < 100; i++) {
+        assertThat(policy.nextDelay("POLICY", attempt).toMillis()).isBetween(0L, capMs);
+      }
+    }
+  }
+
+  @Test
+  void nextDelay_isJittered() {
+    long distinct =
+        java.util.stream.IntStream.range(0, 50)
+            .mapToLong(i -> policy.nextDelay("POLICY", 5).toMillis())
+            .distinct()
+            .count();
+    assertThat(distinct).isGreaterThan(1);
+  }
+
+  @Test
+  void aggregateOverride_replacesOnlyConfiguredFields() {
+    assertThat(policy.maxAttempts("TENANT")).isEqualTo(8);
+    assertThat(policy.maxAttempts("FLAG")).isEqualTo(5);
+    for (int i = 0; i < 100; i++) {
+      assertThat(policy.nextDelay("TENANT", 1).toMillis()).isBetween(0L, 10_000L);
+      assertThat(policy.nextDelay("TENANT", 6).toMillis()).isBetween(0L, 30_000L);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.union.solutions.saascore.unit.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.infrastructure.ratelimit.LocalRateLimiterBackend;
+import com.union.solutions.saascore.infrastructure.ratelimit.PlanLimits;
+import com.union.solutions.saascore.infrastructure.ratelimit.RateLimitDecision;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestClass;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimiterBackendTest {
+
+  private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+  private final PlanLimits limits = new PlanLimits(60, 300, 1000, 30, 150, 500, 10, 50, 100);
+  private final LocalRateLimiterBackend backend =
+      new LocalRateLimiterBackend(limits, clock::get, 1000, 10);
+
+  @Test
+  void allowsBurstUpToLimitThenRejects() {
+    UUID tenant = UUID.randomUUID();
+    for (int i = 0; i < 60; i++) {
+      assertThat(read(tenant, "free").allowed()).isTrue();
+    }
+    RateLimitDecision rejected = read(tenant, "free");
+    assertThat(rejected.allowed()).isFalse();
+    assertThat(rejected.remaining()).isZero();
+    assertThat(rejected.retryAfterMs()).isBetween(900L, 1000L);
+  }
+
+  @Test
+  void refillsOneTokenPerEmissionInterval() {
+    UUID tenant = UUID.randomUUID();
+    for (int i = 0; i < 60; i++) read(tenant, "free");
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(read(tenant, "free").allowed()).isTrue();
+    assertThat(read(tenant, "free").allowed()).isFalse();
+  }
+
+  @Test
+  void tenantsHaveIndependentBuckets() {
+    UUID a = UUID.randomUUID();
+    for (int i = 0; i < 60; i++) read(a, "free");
+    RateLimitDecision other = read(UUID.randomUUID(), "free");
+    assertThat(other.allowed()).isTrue();
+    assertThat(other.remaining()).isEqualTo(59);
+  }
+
+  @Test
+  void unknownPlanFallsBackToFreeLimit() {
+    assertThat(read(UUID.randomUUID(), "legacy").limit()).isEqualTo(60);
+  }
+
+  @Test
+  void classesHaveSeparateBudgets_andCostIsWeighted() {
+    UUID tenant = UUID.randomUUID();
+    for (int i = 0; i < 2; i++) {
+      assertThat(backend.tryAcquire(tenant, "free", RequestClass.HEAVY, 5).allowed()).isTrue();
+    }
+    assertThat(backend.tryAcquire(tenant, "free", RequestClass.HEAVY, 5).allowed()).isFalse();
+
+    RateLimitDecision read = read(tenant, "free");
+    assertThat(read.allowed()).isTrue();
+    assertThat(read.remaining()).isEqualTo(59);
+    assertThat(backend.tryAcquire(tenant, "free", RequestClass.WRITE, 1).limit()).isEqualTo(30);
+  }
+
+  @Test
+  void evictIdle_dropsOnlyReplenishedIdleBuckets() {
+    UUID idle = UUID.randomUUID();
+    UUID exhausted = UUID.randomUUID();
+    read(idle, "free");
+    for (int i = 0; i < 60; i++) read(exhausted, "free");
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    backend.evictIdle();
+
+    assertThat(backend.size()).isEqualTo(1);
+    assertThat(read(exhausted, "free").remaining()).isLessThan(59);
+  }
+
+  @Test
+  void evictionOverCapacity_neverLosesAConcurrentConsumption() throws Exception {
+    // maxBuckets=0: todo bucket cheio é candidato a sair; o relógio parado impede refill.
+    LocalRateLimiterBackend crowded = new LocalRateLimiterBackend(limits, clock::get, 1000, 0);
+    for (int round = 0; round < 200; round++) {
+      UUID tenant = UUID.randomUUID();
+      AtomicBoolean done = new AtomicBoolean();
+      Thread sweeper =
+          new Thread(
+              () -> {
+                while (!done.get()) crowded.evictIdle();
+              });
+      sweeper.start();
+      int allowed = 0;
+      try {
+        for (int i = 0; i < 100; i++) {
+          if (crowded.tryAcquire(tenant, "free", RequestClass.READ, 1).allowed()) allowed++;
+        }
+      } finally {
+        done.set(true);
+        sweeper.join();
+      }
+      assertThat(allowed).as("round %d", round).isEqualTo(60);
+    }
+  }
+
+  private RateLimitDecision read(UUID tenant, String plan) {
+    return backend.tryAcquire(tenant, plan, RequestClass.READ, 1);
+  }
+}
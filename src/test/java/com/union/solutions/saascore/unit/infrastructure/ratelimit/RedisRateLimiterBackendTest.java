@@ -0,0 +1,129 @@
+package com.union.solutions.saascore.unit.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.union.solutions.saascore.infrastructure.ratelimit.LocalRateLimiterBackend;
+import com.union.solutions.saascore.infrastructure.ratelimit.PlanLimits;
+import com.union.solutions.saascore.infrastructure.ratelimit.RateLimitDecision;
+import com.union.solutions.saascore.infrastructure.ratelimit.RedisRateLimiterBackend;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestClass;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRateLimiterBackendTest {
+
+  @Mock StringRedisTemplate redis;
+  @Mock LocalRateLimiterBackend fallback;
+
+  private final PlanLimits limits = new PlanLimits(60, 300, 1000, 30, 150, 500, 10, 50, 100);
+  private final UUID tenant = UUID.randomUUID();
+
+  @Test
+  void tryAcquire_allowsAndRejectsFromTheSharedBucket() {
+    RedisRateLimiterBackend backend = backend(5000);
+    when(execute("3", "1")).thenReturn(List.of(1L, 59L, 0L), List.of(0L, 0L, 250L));
+
+    RateLimitDecision allowed = read(backend);
+    RateLimitDecision rejected = read(backend);
+
+    assertThat(allowed.allowed()).isTrue();
+    assertThat(allowed.limit()).isEqualTo(60);
+    assertThat(allowed.remaining()).isEqualTo(59);
+    assertThat(rejected.allowed()).isFalse();
+    assertThat(rejected.retryAfterMs()).isEqualTo(250);
+    verifyNoInteractions(fallback);
+  }
+
+  @Test
+  void tryAcquire_servesPrefetchedTokensLocallyUntilLeaseIsUsed() {
+    RedisRateLimiterBackend backend = backend(5000);
+    when(execute("3", "1")).thenReturn(List.of(3L, 57L, 0L), List.of(3L, 54L, 0L));
+
+    assertThat(read(backend).remaining()).isEqualTo(59);
+    assertThat(read(backend).allowed()).isTrue();
+    assertThat(read(backend).allowed()).isTrue();
+    verify(redis, times(1)).execute(any(), anyList(), any(), any(), any(), any());
+
+    assertThat(read(backend).allowed()).isTrue();
+    verify(redis, times(2)).execute(any(), anyList(), any(), any(), any(), any());
+  }
+
+  @Test
+  void tryAcquire_concurrentRefillsMergeTheirLeases() {
+    RedisRateLimiterBackend backend = backend(5000);
+    AtomicInteger calls = new AtomicInteger();
+    when(execute("3", "1"))
+        .thenAnswer(
+            inv -> {
+              if (calls.incrementAndGet() == 1) {
+                // Uma segunda recarga termina enquanto a primeira ainda espera o Redis.
+                assertThat(read(backend).allowed()).isTrue();
+                return List.of(3L, 54L, 0L);
+              }
+              return List.of(3L, 57L, 0L);
+            });
+
+    assertThat(read(backend).allowed()).isTrue();
+    for (int i = 0; i < 4; i++) assertThat(read(backend).allowed()).isTrue();
+
+    verify(redis, times(2)).execute(any(), anyList(), any(), any(), any(), any());
+  }
+
+  @Test
+  void tryAcquire_fallsBackToLocalLimiterDuringCooldown() {
+    RedisRateLimiterBackend backend = backend(60_000);
+    when(execute("3", "1")).thenThrow(new RedisConnectionFailureException("down"));
+    when(fallback.tryAcquire(tenant, "free", RequestClass.READ, 1))
+        .thenReturn(RateLimitDecision.allowed(60, 42));
+
+    assertThat(read(backend).remaining()).isEqualTo(42);
+    assertThat(read(backend).remaining()).isEqualTo(42);
+
+    verify(redis, times(1)).execute(any(), anyList(), any(), any(), any(), any());
+    verify(fallback, times(2)).tryAcquire(tenant, "free", RequestClass.READ, 1);
+  }
+
+  @Test
+  void tryAcquire_retriesRedisAfterCooldown() {
+    RedisRateLimiterBackend backend = backend(0);
+    when(execute("3", "1"))
+        .thenThrow(new RedisConnectionFailureException("down"))
+        .thenReturn(List.of(1L, 58L, 0L));
+    when(fallback.tryAcquire(tenant, "free", RequestClass.READ, 1))
+        .thenReturn(RateLimitDecision.allowed(60, 42));
+
+    assertThat(read(backend).remaining()).isEqualTo(42);
+    assertThat(read(backend).remaining()).isEqualTo(58);
+    verify(fallback, times(1)).tryAcquire(any(), any(), any(), anyInt());
+  }
+
+  private RedisRateLimiterBackend backend(long cooldownMs) {
+    return new RedisRateLimiterBackend(redis, fallback, limits, 5, 60_000, cooldownMs);
+  }
+
+  private RateLimitDecision read(RedisRateLimiterBackend backend) {
+    return backend.tryAcquire(tenant, "free", RequestClass.READ, 1);
+  }
+
+  private List<Long> execute(String batch, String permits) {
+    return redis.execute(
+        ArgumentMatchers.<RedisScript<List<Long>>>any(),
+        eq(List.of("rl:" + tenant + ":free:" + RequestClass.READ.policyName())),
+        eq("60"),
+        anyString(),
+        eq(batch),
+        eq(permits));
+  }
+}
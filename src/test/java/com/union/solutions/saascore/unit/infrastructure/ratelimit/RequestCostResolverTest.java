@@ -0,0 +1,43 @@
+package com.union.solutions.saascore.unit.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestClass;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestCost;
+import com.union.solutions.saascore.infrastructure.ratelimit.RequestCostResolver;
+import com.union.solutions.saascore.infrastructure.ratelimit.RouteCostProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class RequestCostResolverTest {
+
+  private final RequestCostResolver resolver =
+      new RequestCostResolver(
+          new RouteCostProperties(
+              List.of(
+                  new RouteCostProperties.Route("GET", "/v1/audit/**", RequestClass.HEAVY, 5),
+                  new RouteCostProperties.Route(null, "/v1/metrics/**", RequestClass.HEAVY, 10))));
+
+  @Test
+  void configuredRoute_usesItsClassAndCost() {
+    assertThat(resolver.resolve(new MockHttpServletRequest("GET", "/v1/audit")))
+        .isEqualTo(new RequestCost(RequestClass.HEAVY, 5));
+    assertThat(resolver.resolve(new MockHttpServletRequest("POST", "/v1/metrics/business")))
+        .isEqualTo(new RequestCost(RequestClass.HEAVY, 10));
+  }
+
+  @Test
+  void methodMismatch_fallsBackToDefaults() {
+    assertThat(resolver.resolve(new MockHttpServletRequest("POST", "/v1/audit")))
+        .isEqualTo(RequestCost.WRITE);
+  }
+
+  @Test
+  void unmatchedRoutes_costOnePermitByMethod() {
+    assertThat(resolver.resolve(new MockHttpServletRequest("GET", "/v1/me")))
+        .isEqualTo(RequestCost.READ);
+    assertThat(resolver.resolve(new MockHttpServletRequest("DELETE", "/v1/policies/x")))
+        .isEqualTo(RequestCost.WRITE);
+  }
+}
@@ -0,0 +1,97 @@
+package com.union.solutions.saascore.unit.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.union.solutions.saascore.infrastructure.security.JwksManager;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwksManagerTest {
+
+  @TempDir Path dir;
+
+  private Path jwksFile;
+  private final AtomicLong clock = new AtomicLong(1_000_000);
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private JwksManager manager;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    jwksFile = dir.resolve("jwks.json");
+    manager =
+        new JwksManager(
+            new ObjectMapper(),
+            jwksFile.toUri().toString(),
+            "",
+            1000,
+            30_000,
+            clock::get,
+            executor);
+  }
+
+  @Test
+  void prefetch_loadsKeysBeforeFirstRequest() throws Exception {
+    RSAKey key = publish("k1");
+    manager.prefetch();
+
+    assertThat(manager.keyCount()).isEqualTo(1);
+    assertThat(manager.get(byKid("k1"), null)).extracting("keyID").containsExactly(key.getKeyID());
+  }
+
+  @Test
+  void failedRefresh_keepsPreviousKeys() throws Exception {
+    publish("k1");
+    manager.prefetch();
+    Files.writeString(jwksFile, "not json");
+
+    assertThat(manager.refresh()).isFalse();
+    assertThat(manager.get(byKid("k1"), null)).hasSize(1);
+  }
+
+  @Test
+  void unknownKid_triggersAsyncRefetch_rateLimited() throws Exception {
+    publish("k1");
+    manager.prefetch();
+    publish("k2");
+
+    assertThat(manager.get(byKid("k2"), null)).isEmpty();
+    awaitRefresher();
+    assertThat(manager.get(byKid("k2"), null)).hasSize(1);
+
+    publish("k3");
+    assertThat(manager.get(byKid("k3"), null)).isEmpty();
+    assertThat(manager.get(byKid("k3"), null)).isEmpty();
+
+    clock.addAndGet(30_000);
+    manager.get(byKid("k3"), null);
+    awaitRefresher();
+    assertThat(manager.get(byKid("k3"), null)).hasSize(1);
+  }
+
+  private RSAKey publish(String kid) throws Exception {
+    RSAKey key = new RSAKeyGenerator(2048).keyID(kid).generate();
+    Files.writeString(jwksFile, new JWKSet(key.toPublicJWK()).toString());
+    return key;
+  }
+
+  private void awaitRefresher() throws Exception {
+    executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+  }
+
+  private static JWKSelector byKid(String kid) {
+    return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+  }
+}
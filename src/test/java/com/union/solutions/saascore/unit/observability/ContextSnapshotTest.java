@@ -0,0 +1,56 @@
+package com.union.solutions.saascore.unit.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.union.solutions.saascore.config.TenantContext;
+import com.union.solutions.saascore.observability.ContextPropagatingTaskDecorator;
+import com.union.solutions.saascore.observability.ContextSnapshot;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class ContextSnapshotTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+    MDC.clear();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void propagatingExecutor_carriesTenantAndMdcIntoCompletableFuture() throws Exception {
+    UUID tenantId = UUID.randomUUID();
+    TenantContext.setTenantId(tenantId);
+    MDC.put("correlationId", "corr-1");
+
+    String seen =
+        CompletableFuture.supplyAsync(
+                () -> TenantContext.getTenantId().orElseThrow() + "|" + MDC.get("correlationId"),
+                ContextSnapshot.propagating(executor))
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(seen).isEqualTo(tenantId + "|corr-1");
+  }
+
+  @Test
+  void workerThread_isRestoredAfterTask() throws Exception {
+    TenantContext.setSubject("request-user");
+    MDC.put("tenantId", "t-1");
+    Runnable task = new ContextPropagatingTaskDecorator().decorate(() -> {});
+    executor.submit(task).get(5, TimeUnit.SECONDS);
+
+    String leftover =
+        executor
+            .submit(() -> TenantContext.getSubject() + "|" + MDC.get("tenantId"))
+            .get(5, TimeUnit.SECONDS);
+    assertThat(leftover).isEqualTo("null|null");
+  }
+}